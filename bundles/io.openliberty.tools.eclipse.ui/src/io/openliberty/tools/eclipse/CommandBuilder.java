@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022, 2025 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,7 +15,14 @@ package io.openliberty.tools.eclipse;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.osgi.util.NLS;
 
 import io.openliberty.tools.eclipse.logging.Trace;
@@ -25,19 +32,38 @@ import io.openliberty.tools.eclipse.utils.Utils;
 
 public class CommandBuilder {
 
+    /** Maven install location preference name. */
+    public static final String MVN_PATH_PREF = "MVNPATH";
+
+    /** Gradle install location preference name. */
+    public static final String GRADLE_PATH_PREF = "GRADLEPATH";
+
+    /**
+     * Project relative paths of the files that determine whether a wrapper is used. The cached commands of a project are
+     * invalidated when any of these files is added or removed.
+     */
+    public static final String[] WRAPPER_FILES = new String[] { "mvnw", "mvnw.cmd", ".mvn/wrapper/maven-wrapper.properties",
+            "gradlew", "gradlew.bat", "gradle/wrapper/gradle-wrapper.jar", "gradle/wrapper/gradle-wrapper.properties" };
+
+    /**
+     * The executables resolved so far, keyed by project path, build type, PATH and install location preference, so that
+     * repeated actions on a project do not probe the file system.
+     */
+    private static final Map<CacheKey, String> resolvedCommands = new ConcurrentHashMap<CacheKey, String>();
+
     private String projectPath;
 
     private String pathEnv;
 
     private boolean isMaven;
 
-    private String MVNW_WRAPPER = "./mvnw";
+    private String MVNW_WRAPPER = "mvnw";
 
-    private String MVNW_WRAPPER_WIN = ".\\mvnw.cmd";
+    private String MVNW_WRAPPER_WIN = "mvnw.cmd";
 
-    private String GRADLE_WRAPPER = "./gradlew";
+    private String GRADLE_WRAPPER = "gradlew";
 
-    private String GRADLE_WRAPPER_WIN = ".\\gradlew.bat";
+    private String GRADLE_WRAPPER_WIN = "gradlew.bat";
 
     /**
      * @param pathEnv
@@ -51,44 +77,140 @@ public class CommandBuilder {
     }
 
     /**
-     * Returns the full Maven command to run.
+     * Returns the full Maven command to run as a list of arguments that can be executed directly, without a shell.
      *
      * @param projectPath The project's path.
-     * @param cmdArgs     The mvn command args
+     * @param cmdArgs     The mvn command args. Arguments are separated by white space. Quoted arguments may contain white space.
      * @param pathEnv     The PATH env var
      *
-     * @return The full Maven command to run.
+     * @return The full Maven command to run. The first element is the absolute path of the mvn executable or wrapper.
      * 
      * @throws CommandNotFoundException
      */
-    public static String getMavenCommandLine(String projectPath, String cmdArgs, String pathEnv) throws CommandBuilder.CommandNotFoundException {
+    public static List<String> getMavenCommand(String projectPath, String cmdArgs, String pathEnv) throws CommandBuilder.CommandNotFoundException {
         if (Trace.isEnabled()) {
             Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectPath, cmdArgs });
         }
         CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, true);
-        String cmd = builder.getCommand();
-        String cmdLine = builder.getCommandLineFromArgs(cmd, cmdArgs);
+        List<String> command = builder.getCommandFromArgs(builder.getCommand(), cmdArgs);
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, cmdLine);
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, command);
         }
-        return cmdLine;
+        return command;
     }
 
-    public static String getGradleCommandLine(String projectPath, String cmdArgs, String pathEnv) throws CommandBuilder.CommandNotFoundException {
+    /**
+     * Returns the full Gradle command to run as a list of arguments that can be executed directly, without a shell.
+     *
+     * @param projectPath The project's path.
+     * @param cmdArgs     The gradle command args. Arguments are separated by white space. Quoted arguments may contain white
+     *                        space.
+     * @param pathEnv     The PATH env var
+     *
+     * @return The full Gradle command to run. The first element is the absolute path of the gradle executable or wrapper.
+     * 
+     * @throws CommandNotFoundException
+     */
+    public static List<String> getGradleCommand(String projectPath, String cmdArgs, String pathEnv) throws CommandBuilder.CommandNotFoundException {
         if (Trace.isEnabled()) {
             Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectPath, cmdArgs });
         }
         CommandBuilder builder = new CommandBuilder(projectPath, pathEnv, false);
-        String cmd = builder.getCommand();
-        String cmdLine = builder.getCommandLineFromArgs(cmd, cmdArgs);
+        List<String> command = builder.getCommandFromArgs(builder.getCommand(), cmdArgs);
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, cmdLine);
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, command);
+        }
+        return command;
+    }
+
+    /**
+     * Returns the full Maven command to run as a single string, for display purposes.
+     *
+     * @param projectPath The project's path.
+     * @param cmdArgs     The mvn command args
+     * @param pathEnv     The PATH env var
+     *
+     * @return The full Maven command to run.
+     * 
+     * @throws CommandNotFoundException
+     */
+    public static String getMavenCommandLine(String projectPath, String cmdArgs, String pathEnv) throws CommandBuilder.CommandNotFoundException {
+        return toCommandLine(getMavenCommand(projectPath, cmdArgs, pathEnv));
+    }
+
+    /**
+     * Returns the full Gradle command to run as a single string, for display purposes.
+     *
+     * @param projectPath The project's path.
+     * @param cmdArgs     The gradle command args
+     * @param pathEnv     The PATH env var
+     *
+     * @return The full Gradle command to run.
+     * 
+     * @throws CommandNotFoundException
+     */
+    public static String getGradleCommandLine(String projectPath, String cmdArgs, String pathEnv) throws CommandBuilder.CommandNotFoundException {
+        return toCommandLine(getGradleCommand(projectPath, cmdArgs, pathEnv));
+    }
+
+    /**
+     * Returns the input command as a single string, for display purposes. Arguments that contain spaces are enclosed in double
+     * quotes.
+     *
+     * @param command The command arguments.
+     *
+     * @return The input command as a single string.
+     */
+    public static String toCommandLine(List<String> command) {
+        StringBuilder sb = new StringBuilder();
+        for (String arg : command) {
+            if (sb.length() > 0) {
+                sb.append(" ");
+            }
+            sb.append(encloseCmdInQuotesIfNeeded(arg));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Removes the cached executables of the project at the input path. Called when the wrapper files of the project change.
+     *
+     * @param projectPath The project's path.
+     */
+    public static void invalidateCachedCommands(String projectPath) {
+        if (projectPath == null) {
+            return;
+        }
+        if (resolvedCommands.keySet().removeIf(key -> projectPath.equals(key.projectPath))) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Cached mvn/gradle commands invalidated for project path: " + projectPath);
+            }
+        }
+    }
+
+    /**
+     * Removes all cached executables. Called when the install location preferences change.
+     */
+    public static void invalidateCachedCommands() {
+        resolvedCommands.clear();
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "All cached mvn/gradle commands invalidated");
         }
-        return cmdLine;
     }
 
     private String getCommand() throws CommandBuilder.CommandNotFoundException {
-        String cmd = getCommandFromWrapper();
+        CacheKey key = new CacheKey(projectPath, isMaven, pathEnv, getInstallLocationPreferenceString());
+        String cmd = resolvedCommands.get(key);
+        if (cmd != null) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Cached command = " + cmd);
+            }
+            return cmd;
+        }
+
+        cmd = getCommandFromWrapper();
         if (cmd == null) {
             cmd = getCommandFromPreferences();
         }
@@ -117,27 +239,29 @@ public class CommandBuilder {
             throw new CommandNotFoundException(errorMsg);
         }
 
-        return encloseCmdInQuotesIfNeeded(cmd);
+        resolvedCommands.put(key, cmd);
+
+        return cmd;
     }
 
     private String getCommandFromWrapper() {
 
         String cmd = null;
         if (isMaven) {
-            Path p2mw = (Utils.isWindows()) ? Paths.get(projectPath, "mvnw.cmd") : Paths.get(projectPath, "mvnw");
+            Path p2mw = (Utils.isWindows()) ? Paths.get(projectPath, MVNW_WRAPPER_WIN) : Paths.get(projectPath, MVNW_WRAPPER);
             Path p2mwProps = Paths.get(projectPath, ".mvn", "wrapper", "maven-wrapper.properties");
 
             if (p2mw.toFile().exists() && p2mwProps.toFile().exists()) {
-                cmd = Utils.isWindows() ? MVNW_WRAPPER_WIN : MVNW_WRAPPER;
+                cmd = p2mw.toAbsolutePath().toString();
             }
         } else {
             // Check if there is wrapper defined.
-            Path p2gw = (Utils.isWindows()) ? Paths.get(projectPath, "gradlew.bat") : Paths.get(projectPath, "gradlew");
+            Path p2gw = (Utils.isWindows()) ? Paths.get(projectPath, GRADLE_WRAPPER_WIN) : Paths.get(projectPath, GRADLE_WRAPPER);
             Path p2gwJar = Paths.get(projectPath, "gradle", "wrapper", "gradle-wrapper.jar");
             Path p2gwProps = Paths.get(projectPath, "gradle", "wrapper", "gradle-wrapper.properties");
 
             if (p2gw.toFile().exists() && p2gwJar.toFile().exists() && p2gwProps.toFile().exists()) {
-                cmd = Utils.isWindows() ? GRADLE_WRAPPER_WIN : GRADLE_WRAPPER;
+                cmd = p2gw.toAbsolutePath().toString();
             }
         }
         if (cmd != null) {
@@ -164,7 +288,7 @@ public class CommandBuilder {
         }
 
         File tempCmdFile = new File(installLocPref + File.separator + "bin" + File.separator + getExecBaseName());
-        String cmdPathStr = tempCmdFile.getPath();
+        String cmdPathStr = tempCmdFile.getAbsolutePath();
 
         if (tempCmdFile.exists()) {
             if (Trace.isEnabled()) {
@@ -200,7 +324,7 @@ public class CommandBuilder {
             }
             File tempFile = new File(member + File.separator + executableBaseName);
             if (tempFile.exists()) {
-                foundCmd = tempFile.getPath();
+                foundCmd = tempFile.getAbsolutePath();
                 break;
             }
         }
@@ -210,14 +334,16 @@ public class CommandBuilder {
         return foundCmd;
     }
 
-    private String getCommandLineFromArgs(String cmd, String cmdArgs) {
-        // Put it all together.
-        StringBuilder sb = new StringBuilder();
-        if (cmd != null) {
-            sb.append(cmd).append(" ").append(cmdArgs);
+    private List<String> getCommandFromArgs(String cmd, String cmdArgs) {
+        // Put it all together. The arguments are split the way launch configuration arguments are, so quoted arguments
+        // may contain spaces.
+        List<String> command = new ArrayList<String>();
+        command.add(cmd);
+        if (cmdArgs != null && !cmdArgs.isBlank()) {
+            command.addAll(Arrays.asList(DebugPlugin.parseArguments(cmdArgs.trim())));
         }
 
-        return sb.toString();
+        return command;
     }
 
     private String getExecBaseName() {
@@ -230,9 +356,48 @@ public class CommandBuilder {
 
     private String getInstallLocationPreferenceString() {
         if (isMaven) {
-            return LibertyDevPlugin.getDefault().getPreferenceStore().getString("MVNPATH");
+            return LibertyDevPlugin.getDefault().getPreferenceStore().getString(MVN_PATH_PREF);
         } else {
-            return LibertyDevPlugin.getDefault().getPreferenceStore().getString("GRADLEPATH");
+            return LibertyDevPlugin.getDefault().getPreferenceStore().getString(GRADLE_PATH_PREF);
+        }
+    }
+
+    /**
+     * The inputs that determine the resolved executable.
+     */
+    private static class CacheKey {
+
+        private final String projectPath;
+
+        private final boolean isMaven;
+
+        private final String pathEnv;
+
+        private final String installLocPref;
+
+        CacheKey(String projectPath, boolean isMaven, String pathEnv, String installLocPref) {
+            this.projectPath = projectPath;
+            this.isMaven = isMaven;
+            this.pathEnv = pathEnv;
+            this.installLocPref = installLocPref;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return isMaven == other.isMaven && Objects.equals(projectPath, other.projectPath) && Objects.equals(pathEnv, other.pathEnv)
+                   && Objects.equals(installLocPref, other.installLocPref);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectPath, isMaven, pathEnv, installLocPref);
         }
     }
 
@@ -257,7 +422,7 @@ public class CommandBuilder {
     /**
      * Function to enclose the command in double quotes if it contains any spaces
      */
-    private String encloseCmdInQuotesIfNeeded(String cmd) {
+    private static String encloseCmdInQuotesIfNeeded(String cmd) {
         if (cmd.contains(" ")) {
             return "\"" + cmd + "\"";
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022, 2025 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,21 +12,26 @@
 *******************************************************************************/
 package io.openliberty.tools.eclipse;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
@@ -38,6 +43,7 @@ import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -55,6 +61,8 @@ import io.openliberty.tools.eclipse.debug.DebugModeHandler;
 import io.openliberty.tools.eclipse.logging.Logger;
 import io.openliberty.tools.eclipse.logging.Trace;
 import io.openliberty.tools.eclipse.messages.Messages;
+import io.openliberty.tools.eclipse.process.CommandRunner;
+import io.openliberty.tools.eclipse.process.DevModeConsoleLimiter;
 import io.openliberty.tools.eclipse.process.ProcessController;
 import io.openliberty.tools.eclipse.ui.dashboard.DashboardView;
 import io.openliberty.tools.eclipse.utils.ErrorHandler;
@@ -79,10 +87,16 @@ public class DevModeOperations {
     public static final String BROWSER_GRADLE_TEST_REPORT_NAME_SUFFIX = "test report";
     public static final String MVN_RUN_APP_LOG_FILE = "io.openliberty.tools.eclipse.mvnlogfilename";
 
+    /** Preference indicating that the Gradle daemons are kept running when a Gradle project is started clean. */
+    public static final String GRADLE_KEEP_DAEMON_PREF = "GRADLEKEEPDAEMON";
+
     private static final String ANSI_SUPPORT_QUALIFIER = "org.eclipse.ui.console";
     private static final String ANSI_SUPPORT_KEY = "ANSI_support_enabled";
 
     private static final int STOP_TIMEOUT_SECONDS = 60;
+
+    /** The time, in milliseconds, the dev mode process is given to end after each step of a stop escalation. */
+    private static final long DESTROY_GRACE_PERIOD_MS = 10000;
     protected static final QualifiedName STOP_JOB_COMPLETION_TIMEOUT = new QualifiedName("io.openliberty.tools.eclipse.ui", "stopJobCompletionTimeout");
     protected static final QualifiedName STOP_JOB_COMPLETION_EXIT_CODE = new QualifiedName("io.openliberty.tools.eclipse.ui", "stopJobCompletionExitCode");
     protected static final QualifiedName STOP_JOB_COMPLETION_OUTPUT = new QualifiedName("io.openliberty.tools.eclipse.ui", "stopJobCompletionOutput");
@@ -98,6 +112,37 @@ public class DevModeOperations {
      */
     private WorkspaceProjectsModel projectModel;
 
+    /**
+     * Background job that applies project changes to the project model.
+     */
+    private WorkspaceModelUpdateJob modelUpdateJob;
+
+    /**
+     * Background job that builds the initial project model.
+     */
+    private WorkspaceScanJob workspaceScanJob;
+
+    /**
+     * Indicates that the workspace is being scanned for Liberty projects.
+     */
+    private volatile boolean workspaceScanInProgress;
+
+    /**
+     * Indicates that a dashboard view input update has been posted to the UI thread and has not run yet.
+     */
+    private final AtomicBoolean dashboardViewInputUpdatePending = new AtomicBoolean();
+
+    /**
+     * The names of the projects whose start waits for the Gradle daemons to be stopped. A project is claimed from the time the
+     * job stopping the daemons is scheduled until its dev mode process is started.
+     */
+    private final Set<String> gradleDaemonStopPending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Serializes the jobs stopping the Gradle daemons, so that a daemon is not stopped while another project is started.
+     */
+    private final Object gradleDaemonStopLock = new Object();
+
     /**
      * PATH environment variable.
      */
@@ -124,6 +169,15 @@ public class DevModeOperations {
     public DevModeOperations() {
         processController = ProcessController.getInstance();
         projectModel = new WorkspaceProjectsModel();
+        modelUpdateJob = new WorkspaceModelUpdateJob(this);
+        workspaceScanJob = new WorkspaceScanJob(this);
+        workspaceScanJob.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                workspaceScanInProgress = false;
+                updateDashboardViewInput();
+            }
+        });
         pathEnv = System.getenv("PATH");
         debugModeHandler = new DebugModeHandler(this);
     }
@@ -227,24 +281,19 @@ public class DevModeOperations {
             }
 
             // Prepare the Liberty plugin container dev mode command.
-            String cmd = "";
+            List<String> cmd;
+            List<String> stopGradleDaemonCmd = null;
 
             if (buildType == Project.BuildType.MAVEN) {
-                cmd = CommandBuilder.getMavenCommandLine(projectPath, (runProjectClean == true ? " clean " : "") + "io.openliberty.tools:liberty-maven-plugin:dev " + startParms,
-                                                         pathEnv);
+                cmd = CommandBuilder.getMavenCommand(projectPath, (runProjectClean == true ? " clean " : "") + "io.openliberty.tools:liberty-maven-plugin:dev " + startParms,
+                                                     pathEnv);
             } else if (buildType == Project.BuildType.GRADLE) {
 
                 if (runProjectClean == true) {
-                    try {
-                        String stopGradleDaemonCmd = CommandBuilder.getGradleCommandLine(projectPath, " --stop", pathEnv);
-                        executeCommand(stopGradleDaemonCmd, projectPath);
-                    } catch (IOException | InterruptedException e) {
-                        Logger.logError("An attempt to stop the Gradle daemon failed....");
-                    }
-
+                    stopGradleDaemonCmd = getStopGradleDaemonCommand(project, projectPath);
                 }
-                cmd = CommandBuilder.getGradleCommandLine(projectPath,
-                                                          (runProjectClean == true ? " clean " : "") + "libertyDev " + startParms, pathEnv);
+                cmd = CommandBuilder.getGradleCommand(projectPath,
+                                                      (runProjectClean == true ? " clean " : "") + "libertyDev " + startParms, pathEnv);
 
             } else {
                 throw new Exception("Unexpected project build type: " + buildType + ". Project " + projectName
@@ -252,12 +301,7 @@ public class DevModeOperations {
             }
 
             // Run the application in dev mode.
-            startDevMode(cmd, projectName, projectPath, javaHomePath, launch);
-
-            // If there is a debugPort, start the job to attach the debugger to the Liberty server JVM.
-            if (debugPort != null) {
-                debugModeHandler.startDebugAttacher(project, launch, debugPort);
-            }
+            launchDevMode(project, stopGradleDaemonCmd, cmd, javaHomePath, launch, debugPort);
         } catch (CommandNotFoundException e) {
             String msg = "Maven or Gradle command not found for project " + projectName;
             if (Trace.isEnabled()) {
@@ -347,35 +391,24 @@ public class DevModeOperations {
             }
 
             // Prepare the Liberty plugin container dev mode command.
-            String cmd = "";
+            List<String> cmd;
+            List<String> stopGradleDaemonCmd = null;
             if (buildType == Project.BuildType.MAVEN) {
-                cmd = CommandBuilder.getMavenCommandLine(projectPath, (runProjectClean == true ? " clean " : "") + "io.openliberty.tools:liberty-maven-plugin:devc " + startParms,
-                                                         pathEnv);
+                cmd = CommandBuilder.getMavenCommand(projectPath, (runProjectClean == true ? " clean " : "") + "io.openliberty.tools:liberty-maven-plugin:devc " + startParms,
+                                                     pathEnv);
             } else if (buildType == Project.BuildType.GRADLE) {
                 if (runProjectClean == true) {
-                    try {
-
-                        String stopGradleDaemonCmd = CommandBuilder.getGradleCommandLine(projectPath, " --stop",
-                                                                                         pathEnv);
-                        executeCommand(stopGradleDaemonCmd, projectPath);
-                    } catch (IOException | InterruptedException e) {
-                        Logger.logError("An attempt to stop the Gradle daemon failed....");
-                    }
+                    stopGradleDaemonCmd = getStopGradleDaemonCommand(project, projectPath);
                 }
-                cmd = CommandBuilder.getGradleCommandLine(projectPath,
-                                                          (runProjectClean == true ? " clean " : "") + "libertyDevc " + startParms, pathEnv);
+                cmd = CommandBuilder.getGradleCommand(projectPath,
+                                                      (runProjectClean == true ? " clean " : "") + "libertyDevc " + startParms, pathEnv);
             } else {
                 throw new Exception("Unexpected project build type: " + buildType + ". Project " + projectName
                                     + "does not appear to be a Maven or Gradle built project.");
             }
 
             // Run the application in dev mode.
-            startDevMode(cmd, projectName, projectPath, javaHomePath, launch);
-
-            // If there is a debugPort, start the job to attach the debugger to the Liberty server JVM.
-            if (debugPort != null) {
-                debugModeHandler.startDebugAttacher(project, launch, debugPort);
-            }
+            launchDevMode(project, stopGradleDaemonCmd, cmd, javaHomePath, launch, debugPort);
         } catch (Exception e) {
             String msg = "An error was detected during the start in container request on project " + projectName;
             if (Trace.isEnabled()) {
@@ -423,8 +456,9 @@ public class DevModeOperations {
             Utils.reEnableAppMonitoring(project);
         }
 
-        // Check if the stop action has already been issued of if a start action was never issued before.
-        if (!processController.isProcessStarted(projectName)) {
+        // Check if the stop action has already been issued of if a start action was never issued before. Only one of several
+        // concurrent stop requests gets past this point.
+        if (!processController.beginStop(projectName)) {
             String msg = NLS.bind(Messages.stop_already_issued, projectName);
             handleStopActionError(projectName, msg);
 
@@ -432,12 +466,9 @@ public class DevModeOperations {
         }
 
         try {
-            // Issue the command to the process.
+            // Issue the command to the process. The process moves to the stopped state when it ends.
             processController.writeToProcessStream(projectName, DEVMODE_COMMAND_EXIT);
 
-            // Cleanup internal objects.
-            cleanupProcess(projectName);
-
         } catch (Exception e) {
             String msg = NLS.bind(Messages.stop_general_error, projectName);
             handleStopActionError(projectName, msg);
@@ -445,11 +476,107 @@ public class DevModeOperations {
             return;
         }
 
+        // Make sure the process ends, so that the server ports are released before the project is started again.
+        awaitStop(project, projectName);
+
         if (Trace.isEnabled()) {
             Trace.getTracer().traceExit(Trace.TRACE_TOOLS, projectName);
         }
     }
 
+    /**
+     * Waits in the background for the dev mode process of the input project to end after the exit command was issued. If it
+     * does not end within the stop timeout, the Liberty plugin stop command is issued. If the process still does not end, it
+     * is destroyed, and then forcibly destroyed. The time the process took to end is reported.
+     *
+     * @param project     The project being stopped. Null if the project is no longer in the workspace model.
+     * @param projectName The name of the project being stopped.
+     */
+    private void awaitStop(Project project, String projectName) {
+        long stopTimeoutMs = TimeUnit.SECONDS.toMillis(ProcessController.getStopTimeoutSeconds());
+
+        Job job = new Job("Waiting for dev mode to stop on project " + projectName) {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                long startTime = System.nanoTime();
+                String escalation = null;
+
+                try {
+                    boolean ended = processController.waitForExit(projectName, stopTimeoutMs, monitor);
+
+                    if (!ended && !monitor.isCanceled() && project != null) {
+                        escalation = "the Liberty plugin stop command";
+                        if (Trace.isEnabled()) {
+                            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Dev mode did not stop within " + stopTimeoutMs + " ms on project "
+                                                                       + projectName + ". Issuing " + escalation + ".");
+                        }
+                        try {
+                            CommandRunner.run(getLPStopCommand(project), new File(project.getPath()), getLPStopCommandEnvironment(),
+                                              TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS), monitor).get();
+                        } catch (ExecutionException e) {
+                            if (Trace.isEnabled()) {
+                                Trace.getTracer().trace(Trace.TRACE_TOOLS, "The Liberty plugin stop command failed on project " + projectName,
+                                                        e.getCause());
+                            }
+                        }
+                        ended = processController.waitForExit(projectName, DESTROY_GRACE_PERIOD_MS, monitor);
+                    }
+
+                    if (!ended && !monitor.isCanceled()) {
+                        escalation = "destroying the process";
+                        processController.destroy(projectName, false);
+                        ended = processController.waitForExit(projectName, DESTROY_GRACE_PERIOD_MS, monitor);
+                    }
+
+                    if (!ended && !monitor.isCanceled()) {
+                        escalation = "forcibly destroying the process";
+                        processController.destroy(projectName, true);
+                        ended = processController.waitForExit(projectName, DESTROY_GRACE_PERIOD_MS, monitor);
+                    }
+
+                    if (monitor.isCanceled()) {
+                        return Status.CANCEL_STATUS;
+                    }
+
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    if (escalation == null) {
+                        if (Trace.isEnabled()) {
+                            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Dev mode stopped on project " + projectName + " in " + elapsedMs + " ms.");
+                        }
+                    } else {
+                        Logger.logWarning("Dev mode did not stop within " + stopTimeoutMs + " ms of the exit command on project " + projectName
+                                          + ". It was stopped by " + escalation + ". Total stop time: " + elapsedMs + " ms."
+                                          + (ended ? "" : " The process is still running."));
+                    }
+                } catch (CancellationException e) {
+                    return Status.CANCEL_STATUS;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Status.CANCEL_STATUS;
+                } catch (Exception e) {
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_TOOLS, "An error was detected while waiting for dev mode to stop on project " + projectName,
+                                                e);
+                    }
+                }
+
+                return Status.OK_STATUS;
+            }
+        };
+
+        job.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                runningJobs.remove(event.getJob());
+            }
+        });
+
+        job.setSystem(true);
+        runningJobs.put(job, Boolean.TRUE);
+        job.schedule();
+    }
+
     public void cleanupProcess(String projectName) {
         processController.cleanup(projectName);
     }
@@ -738,16 +865,187 @@ public class DevModeOperations {
         browser.openURL(url);
     }
 
+    /**
+     * Returns the command that stops the Gradle daemons ahead of a clean start, or null if the daemons are to be kept running.
+     * The daemons are kept running if the user asked for it in the preferences, or if another Gradle project is running in dev
+     * mode, since its dev mode build runs in a daemon. When the daemons are kept running, Gradle reuses an idle daemon that is
+     * compatible with the build and only starts a new one if none is.
+     *
+     * @param project     The project being started.
+     * @param projectPath The project's path.
+     *
+     * @return The command that stops the Gradle daemons, or null if the daemons are to be kept running.
+     *
+     * @throws CommandNotFoundException If the Gradle executable could not be found.
+     */
+    private List<String> getStopGradleDaemonCommand(Project project, String projectPath) throws CommandNotFoundException {
+        LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+        if (plugin != null && plugin.getPreferenceStore().getBoolean(GRADLE_KEEP_DAEMON_PREF)) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Gradle daemons are kept running as set in the preferences.");
+            }
+            return null;
+        }
+
+        if (isOtherGradleProjectActive(project)) {
+            return null;
+        }
+
+        return CommandBuilder.getGradleCommand(projectPath, "--stop", pathEnv);
+    }
+
+    /**
+     * Returns true if a Gradle project other than the input project is running in dev mode, or is waiting for the Gradle
+     * daemons to be stopped before it starts. False, otherwise.
+     *
+     * @param project The project being started.
+     *
+     * @return True if a Gradle project other than the input project is running in dev mode or is about to. False, otherwise.
+     */
+    private boolean isOtherGradleProjectActive(Project project) {
+        List<String> activeProjectNames = processController.getActiveProjectNames();
+        activeProjectNames.addAll(gradleDaemonStopPending);
+        for (String activeProjectName : activeProjectNames) {
+            // The model of a project is replaced when the project is re-classified, so projects are compared by name.
+            if (activeProjectName.equals(project.getName())) {
+                continue;
+            }
+            Project activeProject = projectModel.getProject(activeProjectName);
+            if (activeProject != null && activeProject.getBuildType() == Project.BuildType.GRADLE) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                                            "Gradle daemons are kept running. Gradle project " + activeProjectName + " is running in dev mode.");
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Runs the dev mode command and starts the debugger attach job if a debug port is given. If a command to stop the Gradle
+     * daemons is given, it is run in the background first and dev mode is started once it completes, so that the caller does
+     * not wait on it. The project is reported as started while it waits, so that it is not started twice. The daemons are left
+     * running if another Gradle project was started in the meantime.
+     *
+     * @param project             The project to start.
+     * @param stopGradleDaemonCmd The command that stops the Gradle daemons. Null if the daemons are not to be stopped.
+     * @param cmd                 The dev mode command.
+     * @param javaHomePath        The configuration java installation home to be set in the process running dev mode.
+     * @param launch              The launch associated with this run.
+     * @param debugPort           The debug port. Null if the debugger is not to be attached.
+     *
+     * @throws Exception If an error occurs while starting dev mode.
+     */
+    private void launchDevMode(Project project, List<String> stopGradleDaemonCmd, List<String> cmd, String javaHomePath, ILaunch launch,
+            String debugPort) throws Exception {
+        String projectName = project.getName();
+        String projectPath = project.getPath();
+
+        if (stopGradleDaemonCmd == null) {
+            if (gradleDaemonStopPending.contains(projectName)) {
+                reportStartAlreadyIssued(projectName);
+                return;
+            }
+
+            startDevMode(cmd, projectName, projectPath, javaHomePath, launch);
+
+            // If there is a debugPort, start the job to attach the debugger to the Liberty server JVM.
+            if (debugPort != null) {
+                debugModeHandler.startDebugAttacher(project, launch, debugPort);
+            }
+            return;
+        }
+
+        // Claim the project before the daemons are stopped, so that another start request on it is refused.
+        if (!gradleDaemonStopPending.add(projectName)) {
+            reportStartAlreadyIssued(projectName);
+            return;
+        }
+        if (processController.isProcessStarted(projectName)) {
+            gradleDaemonStopPending.remove(projectName);
+            reportStartAlreadyIssued(projectName);
+            return;
+        }
+
+        Job job = new Job("Stopping Gradle daemons before starting " + projectName) {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                try {
+                    synchronized (gradleDaemonStopLock) {
+                        // Another Gradle project may have been started since the command was built. Its daemon must be kept.
+                        if (!isOtherGradleProjectActive(project)) {
+                            executeCommand(stopGradleDaemonCmd, projectPath, STOP_TIMEOUT_SECONDS, monitor).get();
+                        }
+                    }
+                } catch (CancellationException e) {
+                    return Status.CANCEL_STATUS;
+                } catch (ExecutionException e) {
+                    Logger.logError("An attempt to stop the Gradle daemon failed....", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Status.CANCEL_STATUS;
+                }
+
+                return Status.OK_STATUS;
+            }
+        };
+
+        job.addJobChangeListener(new JobChangeAdapter() {
+
+            @Override
+            public void done(IJobChangeEvent event) {
+                if (event.getResult().equals(Status.CANCEL_STATUS)) {
+                    gradleDaemonStopPending.remove(projectName);
+                    return;
+                }
+
+                try {
+                    startDevMode(cmd, projectName, projectPath, javaHomePath, launch);
+
+                    // If there is a debugPort, start the job to attach the debugger to the Liberty server JVM.
+                    if (debugPort != null) {
+                        debugModeHandler.startDebugAttacher(project, launch, debugPort);
+                    }
+                } catch (Exception e) {
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_TOOLS, "An error was detected during the start request on project " + projectName, e);
+                    }
+                    ErrorHandler.processErrorMessage(NLS.bind(Messages.start_general_error, projectName), e, true);
+                } finally {
+                    // The dev mode process now holds the project, if it was started.
+                    gradleDaemonStopPending.remove(projectName);
+                }
+            }
+        });
+
+        job.schedule();
+    }
+
+    /**
+     * Informs the user that the input project was already started, or is being started.
+     *
+     * @param projectName The name of the project.
+     */
+    private void reportStartAlreadyIssued(String projectName) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "The start request was already issued on project " + projectName);
+        }
+        ErrorHandler.processErrorMessage(NLS.bind(Messages.start_already_issued, projectName), true);
+    }
+
     /**
      * Runs the specified command.
      *
-     * @param cmd         The command to run.
+     * @param cmd         The command to run. The first element is the executable and the others are its arguments.
      * @param projectName The name of the project currently being processed.
      * @param projectPath The project's path.
      *
      * @throws Exception If an error occurs while running the specified command.
      */
-    public void startDevMode(String cmd, String projectName, String projectPath, String javaInstallPath, ILaunch launch) throws Exception {
+    public void startDevMode(List<String> cmd, String projectName, String projectPath, String javaInstallPath, ILaunch launch) throws Exception {
         // Determine the environment properties to be set in the process running dev mode.
         List<String> envs = new ArrayList<String>(1);
 
@@ -765,9 +1063,51 @@ public class DevModeOperations {
             envs.add("MAVEN_CONFIG=--log-file " + logFileName);
         }
 
-        Process process = processController.runProcess(projectName, projectPath, cmd, envs, true);
+        // The console decodes the output with the launch encoding. Pin it so that the text added by Liberty Tools to the output
+        // is encoded the same way.
+        Charset charset = getConsoleEncoding(launch);
+        launch.setAttribute(DebugPlugin.ATTR_CONSOLE_ENCODING, charset.name());
 
-        DebugPlugin.newProcess(launch, process, projectName);
+        Process process = processController.runProcess(projectName, projectPath, cmd, envs, true, charset);
+
+        IProcess iProcess = DebugPlugin.newProcess(launch, process, projectName);
+        processController.registerDebugProcess(iProcess, projectName);
+
+        // Dev mode output is unbounded. Only keep the most recent output in the console. The complete output is in the spill file.
+        DevModeConsoleLimiter.limit(iProcess, ProcessController.getConsoleBufferSize(), process);
+    }
+
+    /**
+     * Returns the encoding used by the console to decode the output of the processes of the input launch.
+     *
+     * @param launch The launch.
+     *
+     * @return The encoding used by the console to decode the output of the processes of the input launch.
+     */
+    private Charset getConsoleEncoding(ILaunch launch) {
+        String encoding = launch.getAttribute(DebugPlugin.ATTR_CONSOLE_ENCODING);
+        if (encoding == null && launch.getLaunchConfiguration() != null) {
+            try {
+                encoding = DebugPlugin.getDefault().getLaunchManager().getEncoding(launch.getLaunchConfiguration());
+            } catch (CoreException e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to read the encoding of launch configuration "
+                                                               + launch.getLaunchConfiguration().getName(), e);
+                }
+            }
+        }
+
+        if (encoding != null) {
+            try {
+                return Charset.forName(encoding);
+            } catch (IllegalArgumentException e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unsupported console encoding " + encoding, e);
+                }
+            }
+        }
+
+        return Charset.defaultCharset();
     }
 
     /**
@@ -813,26 +1153,11 @@ public class DevModeOperations {
             // Of course we'd have to be smart enough to know this were the case in order to issue such a warning
 
             // Build the command.
-            String cmd = "";
-            String buildTypeName;
-            BuildType buildType = project.getBuildType();
-            if (buildType == Project.BuildType.MAVEN) {
-                cmd = CommandBuilder.getMavenCommandLine(projectPath, "io.openliberty.tools:liberty-maven-plugin:stop", pathEnv);
-                buildTypeName = "Maven";
-            } else if (buildType == Project.BuildType.GRADLE) {
-                cmd = CommandBuilder.getGradleCommandLine(projectPath, "libertyStop", pathEnv);
-                buildTypeName = "Gradle";
-            } else {
-                throw new Exception("Unexpected project build type: " + buildType + ". Project " + projectName
-                                    + "does not appear to be a Maven or Gradle built project.");
-            }
+            List<String> stopCmd = getLPStopCommand(project);
+            String buildTypeName = (project.getBuildType() == Project.BuildType.MAVEN) ? "Maven" : "Gradle";
 
             // Issue the command.
-            String[] cmdParts = cmd.split(" ");
-            ProcessBuilder pb = new ProcessBuilder(cmdParts);
-            pb.directory(new File(projectPath));
-            pb.redirectErrorStream(true);
-            pb.environment().put("JAVA_HOME", JavaRuntime.getDefaultVMInstall().getInstallLocation().getAbsolutePath());
+            Map<String, String> envs = getLPStopCommandEnvironment();
 
             /*
              * Per: https://stackoverflow.com/questions/29793071/rcp-no-progress-dialog-when-starting-a-job it seems that job.setUser(true)
@@ -848,35 +1173,24 @@ public class DevModeOperations {
                     }
 
                     try {
-                        Process p = pb.start();
+                        CommandRunner.Result result = CommandRunner.run(stopCmd, new File(projectPath), envs,
+                                                                        TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS), monitor).get();
 
-                        boolean completed = false;
-
-                        for (int elapsed = 0; completed == false && elapsed < STOP_TIMEOUT_SECONDS; elapsed++) {
-                            if (monitor.isCanceled()) {
-                                p.destroy();
-                                return Status.CANCEL_STATUS;
-                            }
-                            completed = p.waitFor(1, TimeUnit.SECONDS);
+                        setProperty(STOP_JOB_COMPLETION_EXIT_CODE, result.getExitCode());
+                        if (result.getExitCode() != 0) {
+                            setProperty(STOP_JOB_COMPLETION_OUTPUT, result.getOutput());
                         }
-
-                        if (!completed) {
+                    } catch (CancellationException e) {
+                        return Status.CANCEL_STATUS;
+                    } catch (ExecutionException e) {
+                        if (e.getCause() instanceof TimeoutException) {
                             setProperty(STOP_JOB_COMPLETION_TIMEOUT, Boolean.TRUE);
                         } else {
-                            setProperty(STOP_JOB_COMPLETION_EXIT_CODE, p.exitValue());
-                            if (p.exitValue() != 0) {
-                                BufferedReader reader = new BufferedReader(new InputStreamReader(p.getInputStream()));
-                                StringBuilder builder = new StringBuilder();
-                                String line = null;
-                                while ((line = reader.readLine()) != null) {
-                                    builder.append(line);
-                                    builder.append(System.getProperty("line.separator"));
-                                }
-                                setProperty(STOP_JOB_COMPLETION_OUTPUT, builder.toString());
-                            }
+                            ErrorHandler.processErrorMessage(NLS.bind(Messages.plugin_stop_issue_error, null), e.getCause(), false);
                         }
-                    } catch (Exception e) {
-                        ErrorHandler.processErrorMessage(NLS.bind(Messages.plugin_stop_issue_error, null), e, false);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return Status.CANCEL_STATUS;
                     }
                     return Status.OK_STATUS;
                 }
@@ -951,6 +1265,37 @@ public class DevModeOperations {
         }
     }
 
+    /**
+     * Returns the Liberty plugin stop command of the input project.
+     *
+     * @param project The project.
+     *
+     * @return The Liberty plugin stop command of the input project.
+     *
+     * @throws Exception If the command could not be built.
+     */
+    private List<String> getLPStopCommand(Project project) throws Exception {
+        String projectPath = project.getPath();
+        BuildType buildType = project.getBuildType();
+        if (buildType == Project.BuildType.MAVEN) {
+            return CommandBuilder.getMavenCommand(projectPath, "io.openliberty.tools:liberty-maven-plugin:stop", pathEnv);
+        } else if (buildType == Project.BuildType.GRADLE) {
+            return CommandBuilder.getGradleCommand(projectPath, "libertyStop", pathEnv);
+        } else {
+            throw new Exception("Unexpected project build type: " + buildType + ". Project " + project.getName()
+                                + "does not appear to be a Maven or Gradle built project.");
+        }
+    }
+
+    /**
+     * Returns the environment variables set for the Liberty plugin stop command.
+     *
+     * @return The environment variables set for the Liberty plugin stop command.
+     */
+    private Map<String, String> getLPStopCommandEnvironment() {
+        return Map.of("JAVA_HOME", JavaRuntime.getDefaultVMInstall().getInstallLocation().getAbsolutePath());
+    }
+
     /**
      * Returns the path of the HTML file containing the integration test report.
      *
@@ -984,7 +1329,7 @@ public class DevModeOperations {
         Project serverProj = getLibertyServerProject(project);
         String buildDir = serverProj.getBuildType() == BuildType.GRADLE ? "build" : "target";
 
-        Path path = Paths.get(serverProj.getPath(), buildDir, "liberty-plugin-config.xml");
+        Path path = Paths.get(serverProj.getPath(), buildDir, LibertyPluginConfig.FILE_NAME);
         return path;
     }
 
@@ -1123,18 +1468,39 @@ public class DevModeOperations {
     }
 
     /**
-     * Returns true if the start process for the project is active. False, otherwise.
+     * Returns true if the start process for the project is active, or is about to be started once the Gradle daemons are
+     * stopped. False, otherwise.
      * 
      * @param projectName The name of the project.
      * 
-     * @return true if the start process for the project is active. False, otherwise.
+     * @return true if the start process for the project is active or about to be started. False, otherwise.
      */
     public boolean isProjectStarted(String projectName) {
-        return processController.isProcessStarted(projectName);
+        return processController.isProcessStarted(projectName) || gradleDaemonStopPending.contains(projectName);
+    }
+
+    /**
+     * Returns true if a stop request was issued on the project and its start process has not ended yet. False, otherwise.
+     *
+     * @param projectName The name of the project.
+     *
+     * @return True if a stop request was issued on the project and its start process has not ended yet. False, otherwise.
+     */
+    public boolean isProjectStopping(String projectName) {
+        return processController.isProcessStopping(projectName);
     }
 
     public void restartServer(String projectName) {
         String restartCommand = "r";
+        if (!processController.beginRestart(projectName)) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "The server for project " + projectName + " is not running. No-op. State: "
+                                                           + processController.getState(projectName));
+            }
+            ErrorHandler.processErrorMessage(NLS.bind(Messages.restart_no_prior_start, projectName), true);
+            return;
+        }
+
         try {
             processController.writeToProcessStream(projectName, restartCommand);
         } catch (Exception e) {
@@ -1145,12 +1511,53 @@ public class DevModeOperations {
     }
 
     /**
-     * Refreshes the dashboard view.
+     * Schedules a background scan that classifies all projects in the workspace. The dashboard view shows a scanning state and is
+     * populated as projects are classified.
+     */
+    public void scheduleWorkspaceScan() {
+        workspaceScanInProgress = true;
+        workspaceScanJob.schedule();
+    }
+
+    /**
+     * Returns true if the workspace is being scanned for Liberty projects. False, otherwise.
+     *
+     * @return True if the workspace is being scanned for Liberty projects. False, otherwise.
+     */
+    public boolean isWorkspaceScanInProgress() {
+        return workspaceScanInProgress;
+    }
+
+    /**
+     * Queues a background update of the project model for the input projects. Updates requested in quick succession are
+     * applied together, after which the dashboard view is refreshed.
+     *
+     * @param projectsChanged The projects that were opened, closed, added or removed.
+     */
+    public void scheduleWorkspaceModelUpdate(Collection<IProject> projectsChanged) {
+        modelUpdateJob.update(projectsChanged);
+    }
+
+    /**
+     * Sets the dashboard view input to the current content of the project model. The model is not rebuilt. This method may be
+     * called from any thread; the view is updated asynchronously on the UI thread, and requests made before a pending update
+     * runs are served by that update.
      */
-    public void refreshDashboardView(boolean reportError) {
-        if (dashboardView != null) {
-            dashboardView.refreshDashboardView(projectModel, reportError);
+    public void updateDashboardViewInput() {
+        if (dashboardView == null || !dashboardViewInputUpdatePending.compareAndSet(false, true)) {
+            return;
         }
+
+        Display.getDefault().asyncExec(new Runnable() {
+            @Override
+            public void run() {
+                dashboardViewInputUpdatePending.set(false);
+                if (dashboardView != null) {
+                    dashboardView.setScanning(workspaceScanInProgress);
+                    dashboardView.setInput(projectModel.getSortedDashboardProjectList());
+                }
+            }
+        });
     }
 
     /**
@@ -1159,17 +1566,23 @@ public class DevModeOperations {
     public void cancelRunningJobs() {
         // Cancel will remove job from 'runningJobs' Map
         runningJobs.keySet().forEach(j -> j.cancel());
+        modelUpdateJob.cancel();
+        workspaceScanJob.cancel();
     }
 
-    public void executeCommand(String fullCommand, String projectPath) throws IOException, InterruptedException {
-        // Split the full command into individual arguments
-        List<String> command = Arrays.asList(fullCommand.trim().split("\\s+"));
-
-        ProcessBuilder builder = new ProcessBuilder(command);
-        builder.directory(new File(projectPath)); // Set working directory
-
-        Process process = builder.start();
-        process.waitFor();
+    /**
+     * Starts the input command without waiting for it to complete. The output of the command is written to the trace.
+     *
+     * @param command        The command to run. The first element is the executable and the others are its arguments.
+     * @param projectPath    The directory in which the command is run.
+     * @param timeoutSeconds The maximum time, in seconds, the command is allowed to run.
+     * @param monitor        The progress monitor whose cancellation cancels the command. Null if none.
+     *
+     * @return The future result of the command. See CommandRunner.run.
+     */
+    public CompletableFuture<CommandRunner.Result> executeCommand(List<String> command, String projectPath, int timeoutSeconds,
+            IProgressMonitor monitor) {
+        return CommandRunner.run(command, new File(projectPath), null, TimeUnit.SECONDS.toMillis(timeoutSeconds), monitor);
     }
 
 }
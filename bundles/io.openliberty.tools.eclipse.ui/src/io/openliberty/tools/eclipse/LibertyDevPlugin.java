@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022, 2025 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,9 +18,9 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.osgi.service.debug.DebugOptions;
 import org.eclipse.osgi.service.debug.DebugOptionsListener;
-import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
 
@@ -43,6 +43,9 @@ public class LibertyDevPlugin extends AbstractUIPlugin {
     /** Resource Change listener instance. */
     private IResourceChangeListener resourceChangeListener;
 
+    /** Preference change listener instance. */
+    private IPropertyChangeListener preferenceChangeListener;
+
     /**
      * Constructor.
      */
@@ -59,16 +62,18 @@ public class LibertyDevPlugin extends AbstractUIPlugin {
         props.put(DebugOptions.LISTENER_SYMBOLICNAME, LibertyDevPlugin.DEBUG_OPTIONS_ID);
         context.registerService(DebugOptionsListener.class.getName(), new Trace(), props);
 
-        // Classify all projects in the workspace.
-        DevModeOperations.getInstance().getProjectModel().createNewCompleteWorkspaceModelWithClassify();
-
         // Register a workspace listener for cleanup.
         registerListeners();
+
+        // Classify all projects in the workspace. This is done in the background so that activation is not delayed by the
+        // number of projects in the workspace.
+        DevModeOperations.getInstance().scheduleWorkspaceScan();
     }
 
     @Override
     public void stop(BundleContext context) throws Exception {
         DevModeOperations.getInstance().cancelRunningJobs();
+        DevModeOperations.getInstance().getDebugModeHandler().shutdown();
         unregisterListeners();
         plugin = null;
         super.stop(context);
@@ -88,9 +93,8 @@ public class LibertyDevPlugin extends AbstractUIPlugin {
      * Register listeners.
      */
     private void registerListeners() {
-        PlatformUI.getWorkbench().getDisplay().asyncExec(() -> {
-            registerResourceChangeListener();
-        });
+        registerResourceChangeListener();
+        registerPreferenceChangeListener();
     }
 
     /**
@@ -98,6 +102,7 @@ public class LibertyDevPlugin extends AbstractUIPlugin {
      */
     private void unregisterListeners() {
         unregisterResourceChangeListener();
+        unregisterPreferenceChangeListener();
     }
 
     /**
@@ -132,4 +137,28 @@ public class LibertyDevPlugin extends AbstractUIPlugin {
             Trace.getTracer().traceExit(Trace.TRACE_TOOLS, iWorkspace);
         }
     }
+
+    /**
+     * Registers a preference change listener that discards the resolved mvn/gradle executables when the install location
+     * preferences change.
+     */
+    private void registerPreferenceChangeListener() {
+        preferenceChangeListener = event -> {
+            String property = event.getProperty();
+            if (CommandBuilder.MVN_PATH_PREF.equals(property) || CommandBuilder.GRADLE_PATH_PREF.equals(property)) {
+                CommandBuilder.invalidateCachedCommands();
+            }
+        };
+        getPreferenceStore().addPropertyChangeListener(preferenceChangeListener);
+    }
+
+    /**
+     * Removes the preference change listener.
+     */
+    private void unregisterPreferenceChangeListener() {
+        if (preferenceChangeListener != null) {
+            getPreferenceStore().removePropertyChangeListener(preferenceChangeListener);
+            preferenceChangeListener = null;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,7 +15,6 @@ package io.openliberty.tools.eclipse;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectNature;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.swt.widgets.Display;
 
 /**
  * Represents a Liberty nature or type.
@@ -27,22 +26,28 @@ public class LibertyNature implements IProjectNature {
 
     @Override
     public void configure() throws CoreException {
-        Display.getDefault().syncExec(new Runnable() {
-            @Override
-            public void run() {
-                DevModeOperations.getInstance().refreshDashboardView(false);
-            }
-        });
+        // Natures are configured while the project description is being written, which may happen on a background thread that
+        // holds workspace locks. Do not wait on the UI thread. Only the cached nature of the project and the dashboard content
+        // need to be updated.
+        natureChanged();
     }
 
     @Override
     public void deconfigure() throws CoreException {
-        Display.getDefault().syncExec(new Runnable() {
-            @Override
-            public void run() {
-                DevModeOperations.getInstance().refreshDashboardView(false);
-            }
-        });
+        natureChanged();
+    }
+
+    /**
+     * Discards the cached nature membership of the project and updates the dashboard content.
+     */
+    private void natureChanged() {
+        DevModeOperations devModeOps = DevModeOperations.getInstance();
+        WorkspaceProjectsModel model = devModeOps.getProjectModel();
+        Project projectModel = model.getProject(project.getName());
+        if (projectModel != null) {
+            model.projectDescriptionChanged(projectModel);
+        }
+        devModeOps.updateDashboardViewInput();
     }
 
     @Override
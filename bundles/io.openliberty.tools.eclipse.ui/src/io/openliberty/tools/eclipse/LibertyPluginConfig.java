@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * The Liberty server locations recorded by the Liberty Maven and Gradle plugins in liberty-plugin-config.xml. The file is
+ * parsed with a streaming reader, and the result is cached until the modification time or the size of the file changes, so
+ * the debugger and the dashboard actions that need the locations share a single parse per build.
+ */
+public class LibertyPluginConfig {
+
+    /** The name of the file written by the Liberty plugins to the build directory of the project. */
+    public static final String FILE_NAME = "liberty-plugin-config.xml";
+
+    /** The parsed files by path. */
+    private static final Map<Path, LibertyPluginConfig> cache = new ConcurrentHashMap<Path, LibertyPluginConfig>();
+
+    /** The modification time, in milliseconds, of the file when it was parsed. */
+    private final long lastModified;
+
+    /** The size of the file when it was parsed. */
+    private final long size;
+
+    /** The Liberty server directory. */
+    private final Path serverDirectory;
+
+    /** The Liberty installation directory. */
+    private final Path installDirectory;
+
+    /** The Liberty user directory. */
+    private final Path userDirectory;
+
+    /** The directory holding the server configuration in the project. */
+    private final Path configDirectory;
+
+    /**
+     * Constructor.
+     */
+    private LibertyPluginConfig(long lastModified, long size, Path serverDirectory, Path installDirectory, Path userDirectory,
+            Path configDirectory) {
+        this.lastModified = lastModified;
+        this.size = size;
+        this.serverDirectory = serverDirectory;
+        this.installDirectory = installDirectory;
+        this.userDirectory = userDirectory;
+        this.configDirectory = configDirectory;
+    }
+
+    /**
+     * Returns the configuration held by the input file. The file is parsed only if it changed since it was last parsed.
+     *
+     * @param file The liberty-plugin-config.xml file.
+     *
+     * @return The configuration held by the input file, or null if the file does not exist.
+     *
+     * @throws Exception If the file could not be read or parsed.
+     */
+    public static LibertyPluginConfig get(Path file) throws Exception {
+        Path key = file.toAbsolutePath().normalize();
+        if (!Files.exists(key)) {
+            cache.remove(key);
+            return null;
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(key, BasicFileAttributes.class);
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        long size = attrs.size();
+
+        LibertyPluginConfig config = cache.get(key);
+        if (config != null && config.lastModified == lastModified && config.size == size) {
+            return config;
+        }
+
+        config = parse(key, lastModified, size);
+        cache.put(key, config);
+
+        return config;
+    }
+
+    /**
+     * Returns the Liberty server directory.
+     *
+     * @return The Liberty server directory, or null if it is not recorded.
+     */
+    public Path getServerDirectory() {
+        return serverDirectory;
+    }
+
+    /**
+     * Returns the Liberty installation directory, i.e. the wlp directory.
+     *
+     * @return The Liberty installation directory, or null if it is not recorded.
+     */
+    public Path getInstallDirectory() {
+        return installDirectory;
+    }
+
+    /**
+     * Returns the Liberty user directory, i.e. the usr directory.
+     *
+     * @return The Liberty user directory, or null if it is not recorded.
+     */
+    public Path getUserDirectory() {
+        return userDirectory;
+    }
+
+    /**
+     * Returns the directory holding the server configuration in the project, i.e. src/main/liberty/config.
+     *
+     * @return The directory holding the server configuration, or null if it is not recorded.
+     */
+    public Path getConfigDirectory() {
+        return configDirectory;
+    }
+
+    /**
+     * Reads the locations held by the top level elements of the input file.
+     *
+     * @param file         The file to parse.
+     * @param lastModified The modification time of the file.
+     * @param size         The size of the file.
+     *
+     * @return The configuration held by the file.
+     *
+     * @throws Exception If the file could not be read or parsed.
+     */
+    private static LibertyPluginConfig parse(Path file, long lastModified, long size) throws Exception {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Parsing " + file);
+        }
+
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+
+        Path serverDirectory = null;
+        Path installDirectory = null;
+        Path userDirectory = null;
+        Path configDirectory = null;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                int depth = 0;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                        continue;
+                    }
+                    if (event != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+
+                    // Only the children of the root element hold locations. getElementText consumes the end element.
+                    depth++;
+                    if (depth != 2) {
+                        continue;
+                    }
+
+                    switch (reader.getLocalName()) {
+                        case "serverDirectory":
+                            serverDirectory = toPath(reader.getElementText());
+                            depth--;
+                            break;
+                        case "installDirectory":
+                            installDirectory = toPath(reader.getElementText());
+                            depth--;
+                            break;
+                        case "userDirectory":
+                            userDirectory = toPath(reader.getElementText());
+                            depth--;
+                            break;
+                        case "configDirectory":
+                            configDirectory = toPath(reader.getElementText());
+                            depth--;
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        return new LibertyPluginConfig(lastModified, size, serverDirectory, installDirectory, userDirectory, configDirectory);
+    }
+
+    /**
+     * Returns the path represented by the input element text.
+     *
+     * @param text The element text.
+     *
+     * @return The path represented by the input element text, or null if the text is empty.
+     */
+    private static Path toPath(String text) {
+        String value = text.trim();
+        return value.isEmpty() ? null : Paths.get(value);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 IBM Corporation and others.
+ * Copyright (c) 2022, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,7 +20,8 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
-import org.eclipse.swt.widgets.Display;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
 
 public class LibertyResourceChangeListener implements IResourceChangeListener {
 
@@ -29,77 +30,100 @@ public class LibertyResourceChangeListener implements IResourceChangeListener {
      */
     @Override
     public void resourceChanged(IResourceChangeEvent event) {
-        Display.getDefault().syncExec(new Runnable() {
+        DevModeOperations devModeOps = DevModeOperations.getInstance();
+        WorkspaceProjectsModel db = devModeOps.getProjectModel();
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
 
-            @Override
-            public void run() {
-                DevModeOperations devModeOps = DevModeOperations.getInstance();
-                WorkspaceProjectsModel db = devModeOps.getProjectModel();
-                IResourceDelta delta = event.getDelta();
-                if (delta == null) {
-                    return;
-                }
-
-                // On entry the resource type is the root workspace. Find the child resources affected.
-                IResourceDelta[] resourcesChanged = delta.getAffectedChildren();
-
-                List<IProject> projectsChanged = new ArrayList<IProject>();
+        // On entry the resource type is the root workspace. Find the child resources affected.
+        IResourceDelta[] resourcesChanged = delta.getAffectedChildren();
 
-                boolean refreshNeeded = false;
+        List<IProject> projectsChanged = new ArrayList<IProject>();
+        boolean descriptionChanged = false;
 
-                // Iterate over the affected resources.
-                for (IResourceDelta resourceChanged : resourcesChanged) {
-                    IResource iResource = resourceChanged.getResource();
-                    if (iResource.getType() != IResource.PROJECT) {
-                        continue;
-                    }
-                    IProject iProject = (IProject) iResource;
-                    projectsChanged.add(iProject);
-                    Project project = db.getProject(iProject.getName());
+        // Iterate over the affected resources.
+        for (IResourceDelta resourceChanged : resourcesChanged) {
+            IResource iResource = resourceChanged.getResource();
+            if (iResource.getType() != IResource.PROJECT) {
+                continue;
+            }
+            IProject iProject = (IProject) iResource;
+            Project project = db.getProject(iProject.getName());
 
-                    int updateFlag = resourceChanged.getFlags();
+            int updateFlag = resourceChanged.getFlags();
 
-                    switch (resourceChanged.getKind()) {
-                        // Project opened/closed.
-                        // Flag OPEN (16384): "Change constant (bit mask) indicating that the resource was opened or closed"
-                        // Flag 147456: Although IResourceDelta does not have a predefined constant, this flag value is used to
-                        // denote open/close actions.
-                        case IResourceDelta.CHANGED:
-                            if (updateFlag == IResourceDelta.OPEN || updateFlag == 147456) {
-                                refreshNeeded = true;
-                            }
-                            break;
-                        // Project created/imported.
-                        // Flag OPEN (16384): "This flag is ... set when the project did not exist in the "before" state."
-                        // Flag 147456: Although IResourceDelta does not have a predefined constant, this flag
-                        // value is set when a project, that previously did not exist, is created.
-                        case IResourceDelta.ADDED:
-                            if (project == null && (updateFlag == IResourceDelta.OPEN || updateFlag == 147456)) {
-                                refreshNeeded = true;
-                            }
-                            break;
-                        // Project deleted.
-                        // Flag NO_CHANGE (0).
-                        // Flag MARKERS (130172).
-                        case IResourceDelta.REMOVED:
-                            if (project != null && (updateFlag == IResourceDelta.NO_CHANGE || updateFlag == IResourceDelta.MARKERS)) {
-                                refreshNeeded = true;
-                            }
-                            break;
-                        default:
-                            break;
-                    }
+            // The mvn/gradle executable resolved for the project depends on the presence of its wrapper files.
+            if (resourceChanged.getKind() != IResourceDelta.CHANGED || wrapperFilesChanged(resourceChanged)) {
+                IPath location = iProject.getLocation();
+                if (location != null) {
+                    CommandBuilder.invalidateCachedCommands(location.toOSString());
                 }
+            }
 
-                if (refreshNeeded) {
-                    // We leave this commented out as a marker of the idea that maybe one day we'll only
-                    // build the "delta" model instead of the whole workspace model
-                    // workspaceProjectsModel.buildMultiProjectModel(projectsChanged, true);
-                    db.createNewCompleteWorkspaceModelWithClassify();
-                    devModeOps.refreshDashboardView(false);
-                }
+            switch (resourceChanged.getKind()) {
+                // Project opened/closed.
+                // Flag OPEN (16384): "Change constant (bit mask) indicating that the resource was opened or closed"
+                // Flag 147456: Although IResourceDelta does not have a predefined constant, this flag value is used to
+                // denote open/close actions.
+                // Project description changed.
+                // Flag DESCRIPTION (524288): The natures of the project may have changed.
+                case IResourceDelta.CHANGED:
+                    if (updateFlag == IResourceDelta.OPEN || updateFlag == 147456) {
+                        projectsChanged.add(iProject);
+                    } else if (project != null && (updateFlag & IResourceDelta.DESCRIPTION) != 0) {
+                        db.projectDescriptionChanged(project);
+                        descriptionChanged = true;
+                    }
+                    break;
+                // Project created/imported.
+                // Flag OPEN (16384): "This flag is ... set when the project did not exist in the "before" state."
+                // Flag 147456: Although IResourceDelta does not have a predefined constant, this flag
+                // value is set when a project, that previously did not exist, is created.
+                case IResourceDelta.ADDED:
+                    if (project == null && (updateFlag == IResourceDelta.OPEN || updateFlag == 147456)) {
+                        projectsChanged.add(iProject);
+                    }
+                    break;
+                // Project deleted.
+                // Flag NO_CHANGE (0).
+                // Flag MARKERS (130172).
+                case IResourceDelta.REMOVED:
+                    if (project != null && (updateFlag == IResourceDelta.NO_CHANGE || updateFlag == IResourceDelta.MARKERS)) {
+                        projectsChanged.add(iProject);
+                    }
+                    break;
+                default:
+                    break;
             }
-        });
+        }
+
+        if (!projectsChanged.isEmpty()) {
+            // The model update may write to .project files and is therefore done in the background; bursts of changes are
+            // coalesced into a single update.
+            devModeOps.scheduleWorkspaceModelUpdate(projectsChanged);
+        } else if (descriptionChanged) {
+            // The dashboard content depends on the Liberty nature.
+            devModeOps.updateDashboardViewInput();
+        }
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns true if any of the wrapper files of the project was added or removed.
+     *
+     * @param projectDelta The delta of the project.
+     *
+     * @return True if any of the wrapper files of the project was added or removed. False otherwise.
+     */
+    private boolean wrapperFilesChanged(IResourceDelta projectDelta) {
+        for (String wrapperFile : CommandBuilder.WRAPPER_FILES) {
+            IResourceDelta fileDelta = projectDelta.findMember(new Path(wrapperFile));
+            if (fileDelta != null && fileDelta.getKind() != IResourceDelta.CHANGED) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022, 2023 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 package io.openliberty.tools.eclipse;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,11 +21,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.osgi.util.NLS;
 
 import io.openliberty.tools.eclipse.logging.Trace;
@@ -69,6 +75,9 @@ public class Project {
 
     private boolean isParentOfServerModule;
 
+    /** Cached Liberty nature membership. Null when it needs to be read from the project. */
+    private volatile Boolean libertyNature;
+
     /**
      * Constructor.
      * 
@@ -79,13 +88,33 @@ public class Project {
         this.type = findBuildType();
     }
 
+    /**
+     * Constructor. Used when the build type of the project is already known, i.e. from a previous classification.
+     * 
+     * @param project The Eclipse project reference.
+     * @param type    The build type associated with the project.
+     */
+    public Project(IProject project, BuildType type) {
+        this.iProject = project;
+        this.type = type;
+    }
+
+    /**
+     * Returns true if the project has the Liberty nature. False, otherwise. The result is cached until the project description
+     * changes (see invalidateNatureCache).
+     * 
+     * @return True if the project has the Liberty nature. False, otherwise.
+     */
     public boolean hasLibertyNature() {
+        Boolean cached = libertyNature;
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            if (iProject.getDescription().hasNature(LibertyNature.NATURE_ID)) {
-                return true;
-            } else {
-                return false;
-            }
+            boolean hasNature = iProject.hasNature(LibertyNature.NATURE_ID);
+            libertyNature = hasNature;
+            return hasNature;
         } catch (Exception e) {
             if (Trace.isEnabled()) {
                 Trace.getTracer().trace(Trace.TRACE_TOOLS,
@@ -95,6 +124,13 @@ public class Project {
         }
     }
 
+    /**
+     * Discards the cached nature membership of this project. Must be called when the project description changes.
+     */
+    public void invalidateNatureCache() {
+        libertyNature = null;
+    }
+
     /**
      * Returns the build type associated with this project.
      * 
@@ -274,26 +310,25 @@ public class Project {
     }
 
     /**
-     * Adds the Liberty nature to the project if it is not already present.
+     * Determines whether or not this project is the parent of a server module and returns true if the project should have the
+     * Liberty nature. This method does not modify the project description.
+     * 
+     * @return True if the project should have the Liberty nature. False, otherwise.
      */
-    public void classifyAsLibertyNature() {
-        try {
-            if (libertyServerModule) {
-                Project.addNature(iProject, LibertyNature.NATURE_ID);
-            }
-            // If this is looks like a Maven multi-module project. It may not be however but we take the risk of exposing it
-            if (type.equals(BuildType.MAVEN)) {
-                for (Project child : childDirProjects) {
-                    if (child.isLibertyServerModule()) {
-                        Project.addNature(iProject, LibertyNature.NATURE_ID);
-                        isParentOfServerModule = true;
-                        break;
-                    }
+    public boolean requiresLibertyNature() {
+        isParentOfServerModule = false;
+
+        // If this is looks like a Maven multi-module project. It may not be however but we take the risk of exposing it
+        if (BuildType.MAVEN.equals(type)) {
+            for (Project child : childDirProjects) {
+                if (child.isLibertyServerModule()) {
+                    isParentOfServerModule = true;
+                    break;
                 }
             }
-        } catch (Exception e) {
-            ErrorHandler.processWarningMessage(NLS.bind(Messages.liberty_nature_add_error, null), e, false);
         }
+
+        return libertyServerModule || isParentOfServerModule;
     }
 
     /**
@@ -305,8 +340,23 @@ public class Project {
      * @throws Exception
      */
     public static void addNature(IProject project, String natureId) throws Exception {
+        addNature(project, natureId, IResource.KEEP_HISTORY);
+    }
+
+    /**
+     * Adds the specified nature ID to the project's description/metadata (.project).
+     * 
+     * @param project     The project to process.
+     * @param natureId    The nature ID to add.
+     * @param updateFlags The IResource update flags to use when the project description is set. With
+     *                        IResource.AVOID_NATURE_CONFIG, the update only requires the modify rule of the project rather than
+     *                        the workspace root rule.
+     * 
+     * @throws CoreException
+     */
+    public static void addNature(IProject project, String natureId, int updateFlags) throws CoreException {
         if (Trace.isEnabled()) {
-            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { project, natureId });
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { project, natureId, updateFlags });
         }
 
         if (project.getDescription().hasNature(natureId)) {
@@ -321,13 +371,55 @@ public class Project {
         System.arraycopy(currentNatures, 0, newNatures, 0, currentNatures.length);
         newNatures[currentNatures.length] = natureId;
         projectDesc.setNatureIds(newNatures);
-        project.setDescription(projectDesc, new NullProgressMonitor());
+        project.setDescription(projectDesc, updateFlags, new NullProgressMonitor());
 
         if (Trace.isEnabled()) {
             Trace.getTracer().traceExit(Trace.TRACE_TOOLS, new Object[] { project, newNatures });
         }
     }
 
+    /**
+     * Adds the specified nature ID to the description/metadata (.project) of each of the input projects that does not have it.
+     * All descriptions are updated in a single workspace operation, so the resulting resource changes are reported in one resource
+     * change notification. The operation only requires the modify rules of the input projects since nature configuration is
+     * skipped (IResource.AVOID_NATURE_CONFIG). A failure to update one project does not prevent the others from being updated.
+     * 
+     * @param projects The projects to process.
+     * @param natureId The nature ID to add.
+     * 
+     * @throws CoreException If the workspace operation could not be run.
+     */
+    public static void addNature(Collection<IProject> projects, String natureId) throws CoreException {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projects, natureId });
+        }
+
+        if (projects.isEmpty()) {
+            return;
+        }
+
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        IResourceRuleFactory ruleFactory = workspace.getRuleFactory();
+        ISchedulingRule rule = null;
+        for (IProject project : projects) {
+            rule = MultiRule.combine(rule, ruleFactory.modifyRule(project));
+        }
+
+        workspace.run(monitor -> {
+            for (IProject project : projects) {
+                try {
+                    addNature(project, natureId, IResource.AVOID_NATURE_CONFIG);
+                } catch (Exception e) {
+                    ErrorHandler.processWarningMessage(NLS.bind(Messages.liberty_nature_add_error, null), e, false);
+                }
+            }
+        }, rule, IWorkspace.AVOID_UPDATE, null);
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS);
+        }
+    }
+
     /**
      * Removes the specified nature ID from the project's description/metadata (.project).
      *
@@ -374,11 +466,12 @@ public class Project {
     }
 
     /**
-     * Filters and saves the list of peer projects associated with this project.
+     * Filters and saves the list of peer projects associated with this project. Any previously saved peer projects are discarded.
      * 
      * @param peerProjects The raw list of peer projects.
      */
     public void setPeerDirProjects(List<Project> peerProjects) {
+        this.peerDirProjects.clear();
         for (Project project : peerProjects) {
             if (!getName().equals(project.getName())) {
                 this.peerDirProjects.add(project);
@@ -412,6 +505,10 @@ public class Project {
         return libertyServerModule;
     }
 
+    public Project getParentDirProject() {
+        return parentDirProject;
+    }
+
     public void setParentDirProject(Project parent) {
         this.parentDirProject = parent;
     }
@@ -420,6 +517,10 @@ public class Project {
         this.childDirProjects.add(child);
     }
 
+    public void clearChildDirProjects() {
+        this.childDirProjects.clear();
+    }
+
     public String getName() {
         return iProject.getName();
     }
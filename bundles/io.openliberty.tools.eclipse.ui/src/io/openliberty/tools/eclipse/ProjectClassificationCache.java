@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial implementation
+ *******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import io.openliberty.tools.eclipse.Project.BuildType;
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Persistent cache of project build types. An entry holds the build type of a project, together with the modification stamps
+ * of the project description and of the build files that can change that build type. An entry is only used while none of these
+ * files has been created, modified or deleted since the entry was saved. A hit costs two stamp lookups for a Maven project and
+ * three otherwise, instead of the project description clone(s) needed to find the build type. Whether or not the project is a Liberty server module is not cached: it is probed
+ * on every classification, which stops at the first Liberty configuration file found.
+ *
+ * The cache is stored in the plugin state location so that unchanged projects do not need to be probed again when Eclipse
+ * is restarted. If the plugin is not active, the cache is kept in memory only.
+ */
+public class ProjectClassificationCache {
+
+    /** The name of the file holding the cache in the plugin state location. */
+    public static final String CACHE_FILE_NAME = "projectClassification.properties";
+
+    /** The project relative path of the project description. */
+    private static final IPath DESCRIPTION_FILE = new Path(IProjectDescription.DESCRIPTION_FILE_NAME);
+
+    /** The project relative path of the Maven build file. */
+    private static final IPath MAVEN_BUILD_FILE = new Path("pom.xml");
+
+    /** The project relative path of the Gradle build file. */
+    private static final IPath GRADLE_BUILD_FILE = new Path("build.gradle");
+
+    /** Entry field separator. */
+    private static final String SEPARATOR = "|";
+
+    /** Cache entries by project name. Values are: location|stamps|buildType. */
+    private Properties entries;
+
+    /** Indicates that the cache contains entries that have not been saved yet. */
+    private boolean dirty;
+
+    /**
+     * Returns the cached build type of the input project, or null if there is no entry for the project or the entry is out of
+     * date.
+     *
+     * @param iProject The project to process.
+     *
+     * @return The cached build type of the input project, or null if it needs to be found again.
+     */
+    public synchronized BuildType getBuildType(IProject iProject) {
+        String entry = getEntries().getProperty(iProject.getName());
+        if (entry == null) {
+            return null;
+        }
+
+        String[] fields = entry.split("\\" + SEPARATOR);
+        if (fields.length != 3 || !fields[0].equals(getLocation(iProject))) {
+            return null;
+        }
+
+        BuildType buildType;
+        try {
+            buildType = BuildType.valueOf(fields[2]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        return fields[1].equals(getStamps(iProject, buildType)) ? buildType : null;
+    }
+
+    /**
+     * Saves the build type of the input project. The modification stamps of the project description and of the build file are
+     * read as part of this call, so it should be called after any change made to the project during classification.
+     *
+     * @param project The classified project.
+     */
+    public synchronized void put(Project project) {
+        IProject iProject = project.getIProject();
+        BuildType buildType = project.getBuildType();
+        String entry = getLocation(iProject) + SEPARATOR + getStamps(iProject, buildType) + SEPARATOR + buildType;
+        Object previous = getEntries().setProperty(iProject.getName(), entry);
+        if (!entry.equals(previous)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Removes the entries of the projects that are not in the input collection.
+     *
+     * @param projectNames The names of the projects to keep.
+     */
+    public synchronized void retain(Collection<String> projectNames) {
+        if (getEntries().keySet().retainAll(projectNames)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Writes the cache to the plugin state location if it has changed since it was last read or written.
+     */
+    public synchronized void save() {
+        File cacheFile = getCacheFile();
+        if (!dirty || cacheFile == null) {
+            return;
+        }
+
+        try (OutputStream out = new FileOutputStream(cacheFile)) {
+            entries.store(out, null);
+            dirty = false;
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to save the project classification cache to " + cacheFile, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cache entries. The entries are read from the plugin state location on first use.
+     *
+     * @return The cache entries.
+     */
+    private Properties getEntries() {
+        if (entries == null) {
+            entries = new Properties();
+            File cacheFile = getCacheFile();
+            if (cacheFile != null && cacheFile.exists()) {
+                try (InputStream in = new FileInputStream(cacheFile)) {
+                    entries.load(in);
+                } catch (Exception e) {
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to read the project classification cache from " + cacheFile, e);
+                    }
+                    entries.clear();
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the file holding the cache, or null if the plugin state location is not available.
+     *
+     * @return The file holding the cache, or null if the plugin state location is not available.
+     */
+    private File getCacheFile() {
+        LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+
+        try {
+            return plugin.getStateLocation().append(CACHE_FILE_NAME).toFile();
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to find the plugin state location.", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the location of the input project.
+     *
+     * @param iProject The project to process.
+     *
+     * @return The location of the input project.
+     */
+    private String getLocation(IProject iProject) {
+        IPath location = iProject.getLocation();
+        return (location == null) ? "" : location.toOSString();
+    }
+
+    /**
+     * Returns the modification stamps of the project description and of the build files that can change the input build type.
+     * The Maven build file takes precedence over the Gradle one when the project has neither nature, so creating it changes
+     * any build type. The Gradle build file does not change the build type of a Maven project. The stamp of a file that does
+     * not exist is IResource.NULL_STAMP.
+     *
+     * @param iProject  The project to process.
+     * @param buildType The build type of the project.
+     *
+     * @return The modification stamps as a comma separated list.
+     */
+    private String getStamps(IProject iProject, BuildType buildType) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(iProject.getFile(DESCRIPTION_FILE).getModificationStamp());
+        sb.append(',').append(iProject.getFile(MAVEN_BUILD_FILE).getModificationStamp());
+        if (buildType != BuildType.MAVEN) {
+            sb.append(',').append(iProject.getFile(GRADLE_BUILD_FILE).getModificationStamp());
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial implementation
+ *******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Index of project models by location. Locations are stored in a trie of path segments, sorted by segment name, so the
+ * projects containing or contained in a location are found by walking the path rather than by querying the file system or
+ * the resource tree.
+ *
+ * This class is not thread safe. Access is serialized by the owning WorkspaceProjectsModel.
+ */
+class ProjectLocationIndex {
+
+    /**
+     * A trie node. One node exists per path segment of every indexed location.
+     */
+    private static class Node {
+
+        /** Child nodes by path segment. */
+        private final Map<String, Node> children = new TreeMap<String, Node>();
+
+        /** The project located at this node's path or null if this is an intermediate directory. */
+        private Project project;
+
+        /** The location the project was indexed under. */
+        private String location;
+    }
+
+    /** The root of the trie. Its children are the device (if any) or first path segments. */
+    private final Node root = new Node();
+
+    /**
+     * Associates the input project with the input location. Any project previously associated with the location is replaced.
+     *
+     * @param location The project location.
+     * @param project  The project model.
+     */
+    public void put(String location, Project project) {
+        Node node = root;
+        for (String segment : getSegments(location)) {
+            node = node.children.computeIfAbsent(segment, k -> new Node());
+        }
+        node.project = project;
+        node.location = location;
+    }
+
+    /**
+     * Removes the project associated with the input location. Intermediate nodes that no longer lead to a project are pruned.
+     *
+     * @param location The project location.
+     */
+    public void remove(String location) {
+        String[] segments = getSegments(location);
+        Deque<Node> path = new ArrayDeque<Node>();
+        Node node = root;
+        for (String segment : segments) {
+            path.push(node);
+            node = node.children.get(segment);
+            if (node == null) {
+                return;
+            }
+        }
+        node.project = null;
+        node.location = null;
+
+        // Prune empty nodes from the leaf up.
+        for (int i = segments.length - 1; i >= 0 && node.project == null && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(segments[i]);
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns the closest location associated with a project that strictly contains the input location, or null if none is
+     * found.
+     *
+     * @param location The location to process. It does not need to be associated with a project.
+     *
+     * @return The location of the closest enclosing project, or null if none is found.
+     */
+    public String getEnclosingLocation(String location) {
+        String enclosing = null;
+        Node node = root;
+        String[] segments = getSegments(location);
+        for (int i = 0; i < segments.length - 1; i++) {
+            node = node.children.get(segments[i]);
+            if (node == null) {
+                break;
+            }
+            if (node.project != null) {
+                enclosing = node.location;
+            }
+        }
+
+        return enclosing;
+    }
+
+    /**
+     * Returns the projects for which the input location is the closest enclosing location. That is, the projects contained in the
+     * input location at any depth that are not themselves contained in another project below the input location. The projects
+     * are returned in location order.
+     *
+     * @param location The location to process. It does not need to be associated with a project.
+     *
+     * @return The projects directly nested in the input location.
+     */
+    public List<Project> getNestedProjects(String location) {
+        List<Project> nested = new ArrayList<Project>();
+        Node node = root;
+        for (String segment : getSegments(location)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return nested;
+            }
+        }
+
+        collectNestedProjects(node, nested);
+
+        return nested;
+    }
+
+    /**
+     * Adds the projects nested in the input node to the input list. The search does not descend into nodes with a project.
+     *
+     * @param node   The node to process.
+     * @param nested The list to which the projects are added.
+     */
+    private void collectNestedProjects(Node node, List<Project> nested) {
+        for (Node child : node.children.values()) {
+            if (child.project != null) {
+                nested.add(child.project);
+            } else {
+                collectNestedProjects(child, nested);
+            }
+        }
+    }
+
+    /**
+     * Returns the trie keys of the input location: the device (if any) followed by the path segments.
+     *
+     * @param location The location to process.
+     *
+     * @return The trie keys of the input location.
+     */
+    private String[] getSegments(String location) {
+        IPath path = Path.fromOSString(location);
+        String[] segments = path.segments();
+        String device = path.getDevice();
+        if (device == null) {
+            return segments;
+        }
+
+        String[] keys = new String[segments.length + 1];
+        keys[0] = device;
+        System.arraycopy(segments, 0, keys, 1, segments.length);
+        return keys;
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial implementation
+ *******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.messages.Messages;
+import io.openliberty.tools.eclipse.utils.ErrorHandler;
+
+/**
+ * Background job that applies project changes to the workspace model. Changes reported while the job is waiting to run are
+ * accumulated, so a burst of resource change notifications (i.e. importing many projects at once) results in a single model
+ * update and a single dashboard refresh.
+ */
+public class WorkspaceModelUpdateJob extends Job {
+
+    /** The time to wait for more changes to arrive before updating the model. */
+    private static final long COALESCE_DELAY_MS = 250;
+
+    /** The projects that changed since the last model update. */
+    private final Set<IProject> pendingProjects = new LinkedHashSet<IProject>();
+
+    /** DevModeOperations reference. */
+    private final DevModeOperations devModeOps;
+
+    /**
+     * Constructor.
+     *
+     * @param devModeOps The DevModeOperations instance that owns the model being updated.
+     */
+    public WorkspaceModelUpdateJob(DevModeOperations devModeOps) {
+        super("Updating Liberty project model...");
+        this.devModeOps = devModeOps;
+        setSystem(true);
+    }
+
+    /**
+     * Queues the input projects for a model update and schedules this job if it is not already waiting to run.
+     *
+     * @param projectsChanged The projects that were opened, closed, added or removed.
+     */
+    public void update(Collection<IProject> projectsChanged) {
+        synchronized (pendingProjects) {
+            pendingProjects.addAll(projectsChanged);
+        }
+
+        schedule(COALESCE_DELAY_MS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+        if (monitor.isCanceled()) {
+            return Status.CANCEL_STATUS;
+        }
+
+        List<IProject> projectsChanged;
+        synchronized (pendingProjects) {
+            projectsChanged = new ArrayList<IProject>(pendingProjects);
+            pendingProjects.clear();
+        }
+
+        if (projectsChanged.isEmpty()) {
+            return Status.OK_STATUS;
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Updating the workspace model. Projects changed: " + projectsChanged);
+        }
+
+        try {
+            // Only update the part of the model affected by the projects that changed.
+            devModeOps.getProjectModel().updateWorkspaceModelWithClassify(projectsChanged);
+        } catch (Exception e) {
+            String msg = "An error was detected when the Liberty dashboard content was refreshed.";
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
+            }
+            ErrorHandler.processErrorMessage(NLS.bind(Messages.dashboard_refresh_error, null), e, false);
+            return Status.OK_STATUS;
+        }
+
+        devModeOps.updateDashboardViewInput();
+
+        return Status.OK_STATUS;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 IBM Corporation and others.
+ * Copyright (c) 2022, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,15 +15,29 @@ package io.openliberty.tools.eclipse;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.util.NLS;
 
 import io.openliberty.tools.eclipse.logging.Trace;
@@ -35,30 +49,105 @@ import io.openliberty.tools.eclipse.utils.ErrorHandler;
  */
 public class WorkspaceProjectsModel {
 
-    private Map<String, Project> projectsByLocation;
-    private Map<String, Project> projectsByName;
+    /** Dashboard order: Maven projects first, then Gradle projects, each sorted by name. */
+    private static final Comparator<Project> DASHBOARD_ORDER = Comparator
+            .comparing((Project p) -> p.getBuildType() == Project.BuildType.MAVEN ? 0 : 1).thenComparing(Project::getName);
+
+    /** The maximum number of projects classified concurrently. */
+    private static final int CLASSIFICATION_PARALLELISM = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 4));
+
+    /** Thread pool used to classify projects. Idle threads are released by the pool. */
+    private static final ForkJoinPool CLASSIFICATION_POOL = new ForkJoinPool(CLASSIFICATION_PARALLELISM);
+
+    /**
+     * The project model entries. A complete model is built in a new instance that is published once it is complete, so readers
+     * never see a partially built model. Incremental updates are applied to the published instance.
+     */
+    private static class ModelState {
+
+        private final Map<String, Project> projectsByLocation = new ConcurrentHashMap<String, Project>();
+        private final Map<String, Project> projectsByName = new ConcurrentHashMap<String, Project>();
+
+        /**
+         * The location each project is registered under, by project name. A project may no longer exist when it is removed, so its
+         * location is taken from the model rather than from the resource. Only accessed by the thread updating the model.
+         */
+        private final Map<String, String> locationsByName = new HashMap<String, String>();
+
+        /** Index of the projects by location. Only accessed by the thread updating the model. */
+        private final ProjectLocationIndex locationIndex = new ProjectLocationIndex();
+
+        /**
+         * The projects shown in the dashboard: Maven projects then Gradle projects, each sorted by name. Only accessed by the
+         * thread updating the model. Readers use the snapshot.
+         */
+        private final ConcurrentSkipListSet<Project> dashboardProjects = new ConcurrentSkipListSet<Project>(DASHBOARD_ORDER);
+
+        /**
+         * Immutable snapshot of the names of the projects in the dashboard. Only rebuilt by the thread updating the model, once
+         * its update is complete.
+         */
+        private volatile List<String> dashboardSnapshot = Collections.emptyList();
+
+        /** Indicates that the dashboard projects changed since the snapshot was built. Only accessed by the updating thread. */
+        private boolean dashboardChanged;
+    }
+
+    /**
+     * The projects of a model update that still need the Liberty nature. The nature is added outside of the model lock, since
+     * adding it waits for workspace rules that may be held by threads waiting for the model lock, i.e. resource change listeners.
+     */
+    private static class PendingNatureUpdate {
+
+        /** The model entries that were updated. */
+        private final ModelState model;
+
+        /** The projects to which the Liberty nature is to be added. */
+        private final List<Project> projectsNeedingNature;
+
+        /** The projects whose build type was not found in the cache. */
+        private final Set<Project> projectsProbed;
+
+        private PendingNatureUpdate(ModelState model, List<Project> projectsNeedingNature, Set<Project> projectsProbed) {
+            this.model = model;
+            this.projectsNeedingNature = projectsNeedingNature;
+            this.projectsProbed = projectsProbed;
+        }
+    }
+
+    /** The current project model entries. */
+    private volatile ModelState state = new ModelState();
+
+    /** Build types found by previous model builds, including those of previous Eclipse sessions. */
+    private ProjectClassificationCache classificationCache;
 
     /**
      * Constructor.
      */
     public WorkspaceProjectsModel() {
-        initProjectModels();
+        classificationCache = new ProjectClassificationCache();
     }
 
     /**
-     * Build complete workspace project model. Do classify projects (add Liberty nature if conditions warrant) Should only be called
-     * on UI thread
+     * Build complete workspace project model. Do classify projects (add Liberty nature if conditions warrant). Updates to the
+     * model are serialized, so this may be called from a background job.
      */
     public void createNewCompleteWorkspaceModelWithClassify() {
-        createNewCompleteWorkspaceModel(true);
+        PendingNatureUpdate pending;
+        synchronized (this) {
+            pending = createNewCompleteWorkspaceModel(true);
+        }
+        addLibertyNature(pending);
     }
 
     /**
      * Discard previous model and build new model from open projects
      * 
      * @param whether to classify or not
+     * 
+     * @return The projects that still need the Liberty nature, or null if the projects are not classified.
      */
-    private void createNewCompleteWorkspaceModel(boolean classify) {
+    private PendingNatureUpdate createNewCompleteWorkspaceModel(boolean classify) {
 
         if (Trace.isEnabled()) {
             Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { classify });
@@ -69,91 +158,390 @@ public class WorkspaceProjectsModel {
 
         List<IProject> openProjects = Arrays.stream(iProjects).filter(project -> project.isOpen()).collect(Collectors.toList());
 
-        initProjectModels();
-        buildMultiProjectModel(openProjects, classify);
+        // Start over. The existing model is replaced once the new one is complete.
+        ModelState newState = new ModelState();
+        PendingNatureUpdate pending = buildMultiProjectModel(newState, openProjects, classify, null);
+        state = newState;
+
+        // Drop the cached classification of the projects that are no longer part of the workspace model.
+        classificationCache.retain(newState.projectsByName.keySet());
+        classificationCache.save();
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceExit(Trace.TRACE_TOOLS);
+        }
+
+        return pending;
+    }
+
+    /**
+     * Drops the cached classification of the projects that are not part of the model. This should only be called once the model
+     * covers the complete workspace, i.e. at the end of a workspace scan done in steps through updateWorkspaceModelWithClassify.
+     */
+    public synchronized void pruneClassificationCache() {
+        classificationCache.retain(state.projectsByName.keySet());
+        classificationCache.save();
+    }
+
+    /**
+     * Updates the existing workspace model with the input projects only. Projects that were closed or removed are dropped from the
+     * model, projects that were opened or added are (re)classified, and only the parent/child/peer relationships that involve the
+     * input projects are re-established. Do classify projects (add Liberty nature if conditions warrant).
+     * 
+     * @param projectsChanged The projects that were opened, closed, added or removed.
+     */
+    public void updateWorkspaceModelWithClassify(List<IProject> projectsChanged) {
+        updateWorkspaceModelWithClassify(projectsChanged, null, null);
+    }
+
+    /**
+     * Updates the existing workspace model with the input projects only. See updateWorkspaceModelWithClassify(List). All input
+     * projects are probed in one parallel pass and the Liberty nature is added to those that need it in one workspace
+     * operation, so a scan of the complete workspace is done in a single update.
+     * 
+     * @param projectsChanged The projects that were opened, closed, added or removed.
+     * @param monitor         The progress monitor whose cancellation stops the probing of the projects, in which case the
+     *                            model is not changed. Null if none.
+     * @param modelUpdated    Called once the input projects are part of the model and the dashboard, before the Liberty
+     *                            nature is added to the projects that need it. Null if none.
+     * 
+     * @throws OperationCanceledException If the monitor was cancelled while the projects were probed.
+     */
+    public void updateWorkspaceModelWithClassify(List<IProject> projectsChanged, IProgressMonitor monitor, Runnable modelUpdated) {
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, new Object[] { projectsChanged });
+        }
+
+        PendingNatureUpdate pending;
+        synchronized (this) {
+            pending = buildMultiProjectModel(state, projectsChanged, true, monitor);
+            classificationCache.save();
+        }
+        if (modelUpdated != null) {
+            modelUpdated.run();
+        }
+        addLibertyNature(pending);
 
         if (Trace.isEnabled()) {
             Trace.getTracer().traceExit(Trace.TRACE_TOOLS);
         }
     }
 
-    private void initProjectModels() {
-        // Start over. Throw away existing model
-        projectsByLocation = new ConcurrentHashMap<String, Project>();
-        projectsByName = new ConcurrentHashMap<String, Project>();
+    /**
+     * Adds the Liberty nature to the projects of a model update that need it, then updates the model accordingly. The nature
+     * is added outside of the model lock.
+     * 
+     * @param pending The projects that need the Liberty nature. Null if the projects were not classified.
+     */
+    private void addLibertyNature(PendingNatureUpdate pending) {
+        if (pending == null) {
+            return;
+        }
+
+        // Apply all nature changes in one workspace operation so that they result in a single resource delta. Nature
+        // configuration is skipped; the Liberty nature only uses it to refresh the dashboard, which is done by the caller
+        // once the model is updated.
+        try {
+            Project.addNature(pending.projectsNeedingNature.stream().map(Project::getIProject).collect(Collectors.toList()),
+                              LibertyNature.NATURE_ID);
+        } catch (Exception e) {
+            ErrorHandler.processWarningMessage(NLS.bind(Messages.liberty_nature_add_error, null), e, false);
+        }
+
+        synchronized (this) {
+            pending.projectsNeedingNature.forEach(Project::invalidateNatureCache);
+
+            // Cache the results once the Liberty nature is added since it modifies the project description.
+            pending.projectsProbed.addAll(pending.projectsNeedingNature);
+            for (Project project : pending.projectsProbed) {
+                classificationCache.put(project);
+            }
+            classificationCache.save();
+
+            for (Project project : pending.projectsNeedingNature) {
+                updateDashboardEntry(pending.model, project);
+            }
+            publishDashboardSnapshot(pending.model);
+        }
     }
 
     /**
+     * Adds, replaces or removes the model entries associated with the input projects and re-links the affected projects. When
+     * the model is empty this builds the complete model.
+     * 
+     * @param model          The model entries to update.
      * @param projectsToScan Projects to include in model update
      * @param classify       Whether to classify
+     * @param monitor        The progress monitor whose cancellation stops the probing of the projects. Null if none.
+     * 
+     * @return The projects that still need the Liberty nature, or null if the projects are not classified.
+     * 
+     * @throws OperationCanceledException If the monitor was cancelled while the projects were probed. The model is not changed.
      */
-    private void buildMultiProjectModel(List<IProject> projectsToScan, boolean classify) {
-
-        // First pass classify as server module
-        for (IProject iProject : new ArrayList<IProject>(projectsToScan)) {
-            if (iProject.isOpen()) {
-                Project projModel = projectsByLocation.get(iProject.getLocation().toOSString());
-                if (projModel == null) {
-                    projModel = new Project(iProject);
-                    projectsByLocation.put(iProject.getLocation().toOSString(), projModel);
-                    projectsByName.put(iProject.getName(), projModel);
-                }
-                if (classify) {
-                    projModel.classifyAsServerModule();
-                }
+    private PendingNatureUpdate buildMultiProjectModel(ModelState model, List<IProject> projectsToScan, boolean classify,
+            IProgressMonitor monitor) {
+
+        // The locations of the projects that were added to or removed from the model.
+        Set<String> locationsChanged = new HashSet<String>();
+
+        // The projects that need to be classified with the Liberty nature.
+        Set<Project> projectsToClassify = new LinkedHashSet<Project>();
+
+        // The projects whose build type was not found in the cache.
+        Set<Project> projectsProbed = ConcurrentHashMap.newKeySet();
+
+        // First pass - classify the open projects as server modules. The build type of projects that did not change since they
+        // were last classified is not probed. Probing is independent for each project and is done in parallel. The model is not
+        // changed while the projects are probed, so the projects being probed remain available to the readers of the model.
+        List<IProject> projectsToAdd = projectsToScan.stream().filter(iProject -> iProject.isOpen() && iProject.getLocation() != null)
+                .collect(Collectors.toList());
+
+        // The names of the projects that remain part of the model.
+        Set<String> namesToKeep = projectsToAdd.stream().map(IProject::getName).collect(Collectors.toSet());
+
+        List<Project> projectsAdded;
+        try {
+            projectsAdded = probeProjects(projectsToAdd, classify, projectsProbed, monitor);
+        } catch (OperationCanceledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Keep the previous models of the projects that could not be probed so that they do not disappear from the model.
+            String msg = "An error occurred when the projects in the workspace were probed.";
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, msg + " Projects: " + projectsToAdd, e);
             }
+            ErrorHandler.processWarningMessage(NLS.bind(Messages.project_analyze_error, null), e, false);
+            projectsAdded = Collections.emptyList();
+            projectsProbed.clear();
         }
 
-        try {
-            // Second pass - establish parent/child relationships (i.e. containing dir / contained subdir relationship)
-            for (IProject iProject : projectsToScan) {
-                ArrayList<Project> childPeers = new ArrayList<Project>();
-                for (IResource res : iProject.members()) {
-                    if (res.getType() == IResource.FOLDER) {
-                        String resLocation = res.getLocation().toOSString();
-                        Project child = projectsByLocation.get(resLocation);
-                        if (child != null) {
-                            Project parent = projectsByLocation.get(iProject.getLocation().toOSString());
-                            child.setParentDirProject(parent);
-                            childPeers.add(child);
-                            parent.addChildDirProject(child);
-                        }
-                    }
+        // Second pass - drop the entries of the projects that were closed or removed, and replace the entries of the projects
+        // that were probed. Entries are replaced in place, so a project that remains open is never missing from the model.
+        for (IProject iProject : projectsToScan) {
+            if (!namesToKeep.contains(iProject.getName())) {
+                String previousLocation = removeProjectModel(model, iProject.getName());
+                if (previousLocation != null) {
+                    locationsChanged.add(previousLocation);
                 }
+            }
+        }
 
-                // Set the list of peer projects for each child.
-                for (IResource res : iProject.members()) {
-                    if (res.getType() == IResource.FOLDER) {
-                        String resLocation = res.getLocation().toOSString();
-                        Project child = projectsByLocation.get(resLocation);
-                        if (child != null) {
-                            child.setPeerDirProjects(childPeers);
-                        }
-                    }
-                }
+        for (Project projModel : projectsAdded) {
+            String location = projModel.getIProject().getLocation().toOSString();
+            String previousLocation = putProjectModel(model, location, projModel);
+            if (previousLocation != null) {
+                locationsChanged.add(previousLocation);
             }
+            locationsChanged.add(location);
+            projectsToClassify.add(projModel);
+        }
+
+        PendingNatureUpdate pending = null;
+        try {
+            // Second pass - establish parent/child relationships (i.e. containing dir / contained subdir relationship)
+            projectsToClassify.addAll(linkProjects(model, locationsChanged));
 
-            // Third pass classify with Liberty nature.
+            // Third pass find the projects to classify with Liberty nature. Parents are re-classified too since whether or not
+            // they are the parent of a server module depends on their children. The nature is added by the caller.
             if (classify) {
-                for (IProject iProject : projectsToScan) {
-                    if (iProject.isOpen()) {
-                        Project project = projectsByName.get(iProject.getName());
-                        project.classifyAsLibertyNature();
-                    }
-                }
+                List<Project> projectsNeedingNature = runInParallel(new ArrayList<Project>(projectsToClassify), project -> {
+                    boolean needsNature = project.getIProject().isOpen() && project.requiresLibertyNature()
+                                          && !project.hasLibertyNature();
+                    return needsNature ? project : null;
+                }).stream().filter(Objects::nonNull).collect(Collectors.toList());
+
+                pending = new PendingNatureUpdate(model, projectsNeedingNature, projectsProbed);
             }
 
         } catch (Exception e) {
             String msg = "An error occurred when the projects in the workspace were analyzed.";
             if (Trace.isEnabled()) {
-                Trace.getTracer().trace(Trace.TRACE_TOOLS, msg + " Workspace projects: " + projectsByLocation.values(), e);
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, msg + " Workspace projects: " + model.projectsByLocation.values(), e);
             }
             ErrorHandler.processWarningMessage(NLS.bind(Messages.project_analyze_error, null), e, false);
         }
 
+        // Only the projects that were added or re-classified can enter or leave the dashboard.
+        for (Project project : projectsToClassify) {
+            updateDashboardEntry(model, project);
+        }
+        publishDashboardSnapshot(model);
+
         if (Trace.isEnabled()) {
-            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Projects: " + projectsByLocation.values());
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Projects: " + model.projectsByLocation.values());
         }
+
+        return pending;
+    }
+
+    /**
+     * Creates the models of the input projects. The build type of a project is taken from the classification cache when the
+     * project did not change since it was last classified.
+     * 
+     * @param projectsToAdd  The projects to create models for.
+     * @param classify       Whether to classify
+     * @param projectsProbed Receives the models whose build type was not found in the cache.
+     * @param monitor        The progress monitor whose cancellation stops the probing. Null if none.
+     * 
+     * @return The models of the input projects, in input order.
+     * 
+     * @throws OperationCanceledException If the monitor was cancelled.
+     */
+    private List<Project> probeProjects(List<IProject> projectsToAdd, boolean classify, Set<Project> projectsProbed,
+            IProgressMonitor monitor) {
+        return runInParallel(projectsToAdd, iProject -> {
+            if (monitor != null && monitor.isCanceled()) {
+                throw new OperationCanceledException();
+            }
+            Project.BuildType cachedBuildType = classify ? classificationCache.getBuildType(iProject) : null;
+            Project projModel = (cachedBuildType != null) ? new Project(iProject, cachedBuildType) : new Project(iProject);
+            if (classify) {
+                projModel.classifyAsServerModule();
+                if (cachedBuildType == null) {
+                    projectsProbed.add(projModel);
+                }
+            }
+            return projModel;
+        });
+    }
+
+    /**
+     * Applies the input task to each of the input elements using the classification thread pool and returns the results in input
+     * order. The task is applied serially on the calling thread if there is only one element or if the calling thread owns a
+     * scheduling rule, since the pool threads could then block on the rule held by the thread waiting for them.
+     * 
+     * @param inputs The elements to process.
+     * @param task   The task to apply to each element.
+     * 
+     * @return The task results in input order.
+     */
+    private <T, R> List<R> runInParallel(List<T> inputs, Function<T, R> task) {
+        if (inputs.size() < 2 || Job.getJobManager().currentRule() != null) {
+            return inputs.stream().map(task).collect(Collectors.toList());
+        }
+
+        try {
+            return CLASSIFICATION_POOL.submit(() -> inputs.parallelStream().map(task).collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Re-establishes the parent/child/peer relationships affected by the input locations. The parent of a project is the project
+     * at the closest location that contains it, at any depth, and the children of a parent are peers of each other. Only the
+     * projects at, directly nested in, or directly enclosing the input locations are updated.
+     * 
+     * @param model            The model entries to update.
+     * @param locationsChanged The locations of the projects that were added to or removed from the model.
+     * 
+     * @return The projects whose children were re-established.
+     */
+    private Set<Project> linkProjects(ModelState model, Set<String> locationsChanged) {
+
+        // The parents whose children need to be re-established, by location.
+        Map<String, Project> parentsToLink = new LinkedHashMap<String, Project>();
+
+        for (String location : locationsChanged) {
+            Project project = model.projectsByLocation.get(location);
+            if (project != null) {
+                parentsToLink.put(location, project);
+            } else {
+                // The projects nested in a removed project are re-parented below if there is an enclosing project.
+                for (Project orphan : model.locationIndex.getNestedProjects(location)) {
+                    orphan.setParentDirProject(null);
+                    orphan.setPeerDirProjects(Collections.emptyList());
+                }
+            }
+
+            String enclosingLocation = model.locationIndex.getEnclosingLocation(location);
+            if (enclosingLocation != null) {
+                parentsToLink.put(enclosingLocation, model.projectsByLocation.get(enclosingLocation));
+            } else if (project != null) {
+                project.setParentDirProject(null);
+                project.setPeerDirProjects(Collections.emptyList());
+            }
+        }
+
+        for (Map.Entry<String, Project> entry : parentsToLink.entrySet()) {
+            Project parent = entry.getValue();
+            List<Project> children = model.locationIndex.getNestedProjects(entry.getKey());
+            parent.clearChildDirProjects();
+            for (Project child : children) {
+                child.setParentDirProject(parent);
+                parent.addChildDirProject(child);
+                child.setPeerDirProjects(children);
+            }
+        }
+
+        return new LinkedHashSet<Project>(parentsToLink.values());
+    }
+
+    /**
+     * Adds the model entries of the input project, replacing those of the model previously associated with its name.
+     * 
+     * @param model     The model entries to update.
+     * @param location  The location of the project.
+     * @param projModel The project model.
+     * 
+     * @return The location the replaced model was registered under if the project moved, or null otherwise.
+     */
+    private String putProjectModel(ModelState model, String location, Project projModel) {
+        Project previous = model.projectsByName.put(projModel.getName(), projModel);
+        String previousLocation = model.locationsByName.put(projModel.getName(), location);
+        model.projectsByLocation.put(location, projModel);
+        model.locationIndex.put(location, projModel);
+        if (previous == null) {
+            return null;
+        }
+
+        if (model.dashboardProjects.remove(previous)) {
+            model.dashboardChanged = true;
+        }
+
+        if (previousLocation == null || previousLocation.equals(location)) {
+            return null;
+        }
+
+        // Another project may have been registered under the previous location in the meantime.
+        if (model.projectsByLocation.remove(previousLocation, previous)) {
+            model.locationIndex.remove(previousLocation);
+        }
+        return previousLocation;
+    }
+
+    /**
+     * Removes the model entries associated with the input project name.
+     * 
+     * @param model The model entries to update.
+     * @param name  The name of the project.
+     * 
+     * @return The location the removed project was registered under, or null if the project was not part of the model.
+     */
+    private String removeProjectModel(ModelState model, String name) {
+        Project previous = model.projectsByName.remove(name);
+        if (previous == null) {
+            return null;
+        }
+
+        if (model.dashboardProjects.remove(previous)) {
+            model.dashboardChanged = true;
+        }
+
+        String location = model.locationsByName.remove(name);
+        if (location != null && model.projectsByLocation.remove(location, previous)) {
+            model.locationIndex.remove(location);
+        }
+
+        return location;
     }
 
     /**
@@ -170,7 +558,7 @@ public class WorkspaceProjectsModel {
             Trace.getTracer().traceEntry(Trace.TRACE_TOOLS, name);
         }
 
-        Project retVal = projectsByName.get(name);
+        Project retVal = state.projectsByName.get(name);
 
         if (Trace.isEnabled()) {
             Trace.getTracer().traceExit(Trace.TRACE_TOOLS, retVal);
@@ -182,46 +570,66 @@ public class WorkspaceProjectsModel {
     /**
      * Returns Liberty server modules grouped into two groups: Maven, then Gradle. Within each of the two groups, modules of that
      * group will be sorted in alphabetic order by project name. So you will get the sorted list of Maven Liberty server project names
-     * followed by the sorted list of Gradle Liberty server project names
+     * followed by the sorted list of Gradle Liberty server project names. The list is maintained as projects are added, removed
+     * or re-classified, so this does not sort the workspace projects. The returned list is an immutable snapshot.
      * 
      * @return Liberty server project names sorted and grouped.
      */
     public List<String> getSortedDashboardProjectList() {
+        return state.dashboardSnapshot;
+    }
 
-        if (Trace.isEnabled()) {
-            Trace.getTracer().traceEntry(Trace.TRACE_TOOLS);
-        }
-
-        List<String> mavenDashboardProjects = new ArrayList<String>();
-        List<String> gradleDashboardProjects = new ArrayList<String>();
-        List<String> retVal = new ArrayList<String>();
-
-        for (Project p : projectsByName.values()) {
-            if (p.isLibertyServerModule() || p.isParentOfServerModule() || p.hasLibertyNature()) {
-                if (p.getBuildType() == Project.BuildType.MAVEN) {
-                    mavenDashboardProjects.add(p.getName());
-                } else if (p.getBuildType() == Project.BuildType.GRADLE) {
-                    gradleDashboardProjects.add(p.getName());
-                } else {
-                    if (Trace.isEnabled()) {
-                        Trace.getTracer().trace(Trace.TRACE_TOOLS,
-                                                "Project " + p.getIProject().getName() + " could not be identified as being a Maven or Gradle project.");
-                    }
-                }
+    /**
+     * Discards the cached Liberty nature of the input project and updates its dashboard entry accordingly. Must be called when
+     * the description of the project changes.
+     * 
+     * @param project The project whose description changed.
+     */
+    public synchronized void projectDescriptionChanged(Project project) {
+        project.invalidateNatureCache();
+        updateDashboardEntry(state, project);
+        publishDashboardSnapshot(state);
+    }
+
+    /**
+     * Adds the input project to, or removes it from, the dashboard based on its current classification. Projects that are not
+     * Maven or Gradle projects are not shown.
+     * 
+     * @param model   The model entries to update.
+     * @param project The project to process.
+     */
+    private void updateDashboardEntry(ModelState model, Project project) {
+        boolean show = model.projectsByName.get(project.getName()) == project
+                       && (project.isLibertyServerModule() || project.isParentOfServerModule() || project.hasLibertyNature());
+
+        if (show && project.getBuildType() != Project.BuildType.MAVEN && project.getBuildType() != Project.BuildType.GRADLE) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                                        "Project " + project.getName() + " could not be identified as being a Maven or Gradle project.");
             }
+            show = false;
         }
-        Collections.sort(mavenDashboardProjects);
-        Collections.sort(gradleDashboardProjects);
-
-        retVal.addAll(mavenDashboardProjects);
-        retVal.addAll(gradleDashboardProjects);
 
-        if (Trace.isEnabled()) {
-            Trace.getTracer().traceExit(Trace.TRACE_TOOLS, retVal);
+        boolean changed = show ? model.dashboardProjects.add(project) : model.dashboardProjects.remove(project);
+        if (changed) {
+            model.dashboardChanged = true;
         }
+    }
 
-        return retVal;
+    /**
+     * Rebuilds the snapshot of the names of the projects in the dashboard if the dashboard projects changed. Must be called by
+     * the thread updating the model, once its update is complete.
+     * 
+     * @param model The model entries that were updated.
+     */
+    private void publishDashboardSnapshot(ModelState model) {
+        if (!model.dashboardChanged) {
+            return;
+        }
 
+        model.dashboardSnapshot = Collections.unmodifiableList(model.dashboardProjects.stream().map(Project::getName)
+                .collect(Collectors.toList()));
+        model.dashboardChanged = false;
     }
 
     /**
@@ -238,9 +646,14 @@ public class WorkspaceProjectsModel {
 
         String retVal = null;
 
-        Project proj = projectsByName.get(iProject.getName());
+        Project proj = state.projectsByName.get(iProject.getName());
         if (proj.getBuildType() == Project.BuildType.MAVEN && proj.isAggregated()) {
-            retVal = "-f ../pom.xml -am -pl " + getModuleNameSegment(iProject);
+            // The parent may be several directories up, so the pom and the module are relative to the parent's location.
+            IPath location = iProject.getLocation();
+            IPath parentLocation = proj.getParentDirProject().getIProject().getLocation();
+            String parentPom = parentLocation.append("pom.xml").makeRelativeTo(location).toString();
+            String module = location.makeRelativeTo(parentLocation).toString();
+            retVal = "-f " + parentPom + " -am -pl " + module;
         } else {
             retVal = "";
         }
@@ -252,8 +665,4 @@ public class WorkspaceProjectsModel {
         return retVal;
     }
 
-    private String getModuleNameSegment(IProject iProject) {
-        return iProject.getRawLocation().lastSegment();
-    }
-
 }
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial implementation
+ *******************************************************************************/
+package io.openliberty.tools.eclipse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.messages.Messages;
+import io.openliberty.tools.eclipse.utils.ErrorHandler;
+
+/**
+ * Background job that builds the workspace model and classifies the projects in the workspace. It runs when the plugin is
+ * activated and when the dashboard is refreshed. All projects are probed in one parallel pass and the Liberty nature is added
+ * in one workspace operation. The dashboard view is updated as soon as the projects are classified, before the Liberty nature
+ * is added.
+ */
+public class WorkspaceScanJob extends Job {
+
+    /** DevModeOperations reference. */
+    private final DevModeOperations devModeOps;
+
+    /**
+     * Constructor.
+     *
+     * @param devModeOps The DevModeOperations instance that owns the model being built.
+     */
+    public WorkspaceScanJob(DevModeOperations devModeOps) {
+        super("Scanning the workspace for Liberty projects...");
+        this.devModeOps = devModeOps;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+        // Closed projects are included so that a rescan drops them from the model if they are still part of it.
+        List<IProject> projects = Arrays.asList(ResourcesPlugin.getWorkspace().getRoot().getProjects());
+
+        SubMonitor subMonitor = SubMonitor.convert(monitor, getName(), 2);
+        WorkspaceProjectsModel projectModel = devModeOps.getProjectModel();
+
+        try {
+            projectModel.updateWorkspaceModelWithClassify(projects, subMonitor, () -> {
+                devModeOps.updateDashboardViewInput();
+                subMonitor.worked(1);
+            });
+            devModeOps.updateDashboardViewInput();
+            subMonitor.worked(1);
+
+            projectModel.pruneClassificationCache();
+        } catch (OperationCanceledException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Workspace scan of " + projects.size() + " projects cancelled.");
+            }
+            return Status.CANCEL_STATUS;
+        } catch (Exception e) {
+            String msg = "An error occurred when the projects in the workspace were analyzed.";
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, msg, e);
+            }
+            ErrorHandler.processWarningMessage(NLS.bind(Messages.project_analyze_error, null), e, false);
+        }
+
+        return Status.OK_STATUS;
+    }
+}
@@ -0,0 +1,419 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.debug;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.jdi.TimeoutException;
+
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.AttachingConnector;
+import com.sun.jdi.connect.Connector.Argument;
+
+import io.openliberty.tools.eclipse.Project;
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.process.DevModeEvent;
+import io.openliberty.tools.eclipse.process.DevModeEventListener;
+import io.openliberty.tools.eclipse.process.DevModeState;
+import io.openliberty.tools.eclipse.process.DevModeStateListener;
+import io.openliberty.tools.eclipse.process.ProcessController;
+
+/**
+ * Attaches the debugger to the servers of all the projects started in debug mode. The pending attaches are driven by a single
+ * coordinator thread: the debug port reported by dev mode, or found in server.env, and the retry timers of all the pending
+ * attaches are handled there, and an attach attempt is only handed off to a worker thread when it is due. A refused attempt
+ * fails right away, so no thread is held while a server starts, however many servers start at once.
+ */
+class DebugAttachCoordinator {
+
+    /** The maximum time to wait for dev mode to report the debug port. */
+    private static final long DEBUG_PORT_WAIT_TIMEOUT_MS = 60000;
+
+    /** The maximum time to wait for the debug agent to accept the debugger once the port is known. */
+    private static final long ATTACH_TIMEOUT_MS = 180000;
+
+    /** The interval between the first two attach attempts. The interval doubles after every failed attempt. */
+    private static final long INITIAL_ATTACH_RETRY_INTERVAL_MS = 25;
+
+    /** The maximum interval between two attach attempts. */
+    private static final long MAX_ATTACH_RETRY_INTERVAL_MS = 1000;
+
+    /** The thread driving the pending attaches. The state of the pending attaches is only accessed by this thread. */
+    private final ScheduledExecutorService coordinator = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Liberty debugger attach coordinator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The threads running the attach attempts. */
+    private final ExecutorService workers = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "Liberty debugger attach");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The debug mode handler. */
+    private final DebugModeHandler debugModeHandler;
+
+    /**
+     * Constructor.
+     *
+     * @param debugModeHandler The debug mode handler.
+     */
+    DebugAttachCoordinator(DebugModeHandler debugModeHandler) {
+        this.debugModeHandler = debugModeHandler;
+    }
+
+    /**
+     * Attaches the debugger to the server of the input project.
+     *
+     * @param project          The project for which the debugger is attached.
+     * @param launch           The launch the debug target is created for.
+     * @param port             The debug port. Null if it must be discovered.
+     * @param devModeStartTime The time dev mode was started.
+     *
+     * @return A future completed with the debug target of the attached virtual machine, or with null if the project stopped
+     *         before the debugger was attached. It completes exceptionally if the debugger could not be attached.
+     */
+    CompletableFuture<IDebugTarget> attach(Project project, ILaunch launch, String port, Instant devModeStartTime) {
+        PendingAttach pending = new PendingAttach(project, launch, port, devModeStartTime);
+        coordinator.execute(pending::start);
+
+        return pending.result;
+    }
+
+    /**
+     * Stops the coordinator and the attach attempts in progress. Called when the plugin is stopped.
+     */
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * An attach in progress. Moves from waiting for the debug port, to attaching with increasing retry intervals.
+     */
+    private class PendingAttach implements DevModeEventListener, DevModeStateListener {
+
+        /** The project for which the debugger is attached. */
+        private final Project project;
+
+        /** The name of the project. */
+        private final String projectName;
+
+        /** The launch the debug target is created for. */
+        private final ILaunch launch;
+
+        /** The debug port given by the caller. Null if it must be discovered. */
+        private final String initialPort;
+
+        /** The time dev mode was started. */
+        private final Instant devModeStartTime;
+
+        /** The debug target of the attached virtual machine. */
+        private final CompletableFuture<IDebugTarget> result = new CompletableFuture<IDebugTarget>();
+
+        /** Watches server.env while the port is discovered. */
+        private DebugPortWatcher watcher;
+
+        /** The port wait timeout, or the next attach attempt. */
+        private ScheduledFuture<?> timer;
+
+        /** The debug port. Zero until the port is known. */
+        private int port;
+
+        /** The connector attaching the debugger. */
+        private AttachingConnector connector;
+
+        /** The connector arguments. */
+        private Map<String, Argument> arguments;
+
+        /** The time the first attach attempt was issued. */
+        private long attachStart;
+
+        /** The interval before the next attach attempt. */
+        private long interval = INITIAL_ATTACH_RETRY_INTERVAL_MS;
+
+        /** The number of attach attempts issued. */
+        private int attempts;
+
+        /** The time the last attach attempt was issued. */
+        private Instant lastAttemptTime;
+
+        /** Indicates that an attach attempt is running on a worker thread. */
+        private boolean attempting;
+
+        PendingAttach(Project project, ILaunch launch, String initialPort, Instant devModeStartTime) {
+            this.project = project;
+            this.projectName = project.getIProject().getName();
+            this.launch = launch;
+            this.initialPort = initialPort;
+            this.devModeStartTime = devModeStartTime;
+        }
+
+        /**
+         * Starts waiting for the port, or attaching if the port is known.
+         */
+        void start() {
+            ProcessController processController = ProcessController.getInstance();
+            processController.addDevModeStateListener(this);
+            processController.addDevModeEventListener(this);
+            result.whenComplete((vm, t) -> coordinator.execute(this::cleanup));
+
+            if (!processController.isProcessStarted(projectName)) {
+                result.complete(null);
+                return;
+            }
+
+            if (initialPort != null) {
+                startAttaching(initialPort);
+                return;
+            }
+
+            // Dev mode reports the debug port in its output when the server starts with debug enabled. The port is also written
+            // to server.env, which is watched in case the output message is missed.
+            DevModeEvent last = processController.getLastEvent(projectName, DevModeEvent.Type.DEBUG_PORT);
+            if (last != null) {
+                startAttaching(last.getValue());
+                return;
+            }
+
+            try {
+                watcher = debugModeHandler.createDebugPortWatcher(project, devModeStartTime);
+                watcher.start();
+            } catch (Exception e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to watch the server.env file of project " + projectName, e);
+                }
+            }
+            timer = coordinator.schedule(this::portWaitTimedOut, DEBUG_PORT_WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Falls back to the server configuration when the port was not reported in time.
+         */
+        private void portWaitTimedOut() {
+            if (result.isDone() || port != 0) {
+                return;
+            }
+
+            String debugPort = null;
+            try {
+                Path serverEnvPath = debugModeHandler.getServerEnvFile(project);
+                if (serverEnvPath != null) {
+                    debugPort = debugModeHandler.readDebugPortFromServerEnv(serverEnvPath);
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            if (debugPort == null) {
+                result.completeExceptionally(new Exception("Failed to read debug port from dev mode output or server.env file"));
+                return;
+            }
+
+            startAttaching(debugPort);
+        }
+
+        /**
+         * Starts attaching the debugger to the input port.
+         *
+         * @param debugPort The debug port.
+         */
+        private void startAttaching(String debugPort) {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (watcher != null) {
+                watcher.close();
+                watcher = null;
+            }
+
+            try {
+                port = Integer.parseInt(debugPort);
+                connector = debugModeHandler.getAttachingConnector();
+                arguments = connector.defaultArguments();
+                debugModeHandler.configureConnector(arguments, DebugModeHandler.DEFAULT_ATTACH_HOST, port);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            attachStart = System.nanoTime();
+            scheduleAttempt(0);
+        }
+
+        /**
+         * Schedules the next attach attempt.
+         *
+         * @param delayMs The delay before the attempt.
+         */
+        private void scheduleAttempt(long delayMs) {
+            timer = coordinator.schedule(this::handOff, delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Hands the attach attempt off to a worker thread.
+         */
+        private void handOff() {
+            if (result.isDone()) {
+                return;
+            }
+
+            attempting = true;
+            attempts++;
+            lastAttemptTime = Instant.now();
+            workers.execute(this::attempt);
+        }
+
+        /**
+         * Attempts to attach the debugger. Runs on a worker thread.
+         */
+        private void attempt() {
+            try {
+                VirtualMachine vm = connector.attach(arguments);
+                if (result.isDone()) {
+                    // The project stopped during the attempt.
+                    vm.dispose();
+                    return;
+                }
+                IDebugTarget target = debugModeHandler.createRemoteJDTDebugTarget(launch, vm, port, DebugModeHandler.DEFAULT_ATTACH_HOST);
+                if (!result.complete(target)) {
+                    // The project stopped while the debug target was created.
+                    discard(target, vm);
+                    return;
+                }
+
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                                            "Debugger attached to project " + projectName + " on port " + port + " after " + attempts
+                                                               + " attempt(s) in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attachStart)
+                                                               + " ms.");
+                }
+            } catch (IOException | TimeoutException e) {
+                // The debug agent is not listening yet.
+                coordinator.execute(() -> attemptFailed(e));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Releases the virtual machine attached after the project stopped.
+         *
+         * @param target The debug target created for the virtual machine. Null if none was created.
+         * @param vm     The attached virtual machine.
+         */
+        private void discard(IDebugTarget target, VirtualMachine vm) {
+            if (target == null) {
+                vm.dispose();
+                return;
+            }
+
+            try {
+                target.terminate();
+            } catch (DebugException e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to terminate the debug target of project " + projectName, e);
+                }
+            }
+        }
+
+        /**
+         * Schedules another attach attempt, unless the time limit is reached.
+         *
+         * @param e The cause of the failure.
+         */
+        private void attemptFailed(Exception e) {
+            attempting = false;
+            if (result.isDone()) {
+                return;
+            }
+
+            if (Trace.isEnabled() && attempts == 1) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Attach attempt to port " + port + " of project " + projectName + " failed: "
+                                                           + e.getMessage() + ". Retrying.");
+            }
+
+            if (System.nanoTime() - attachStart >= TimeUnit.MILLISECONDS.toNanos(ATTACH_TIMEOUT_MS)) {
+                result.completeExceptionally(new Exception("Timed out trying to attach the debugger to JVM on host: "
+                                                           + DebugModeHandler.DEFAULT_ATTACH_HOST + " and port: " + port
+                                                           + ".  If the server starts later you might try to manually connect the debugger from the launch in the Debug view  You can confirm the debug port used in the console output looking for a message like  'Liberty debug port: [ 63624 ]'."));
+                return;
+            }
+
+            scheduleAttempt(interval);
+            interval = Math.min(interval * 2, MAX_ATTACH_RETRY_INTERVAL_MS);
+        }
+
+        /**
+         * Attaches to the reported port, or retries right away if dev mode reports the port opened since the last attempt.
+         *
+         * @param event The debug port event.
+         */
+        private void portReported(DevModeEvent event) {
+            if (result.isDone()) {
+                return;
+            }
+
+            if (port == 0) {
+                startAttaching(event.getValue());
+            } else if (!attempting && lastAttemptTime != null && event.getTime().isAfter(lastAttemptTime) && timer.cancel(false)) {
+                scheduleAttempt(0);
+            }
+        }
+
+        /**
+         * Stops listening and watching once the attach is complete.
+         */
+        private void cleanup() {
+            ProcessController processController = ProcessController.getInstance();
+            processController.removeDevModeStateListener(this);
+            processController.removeDevModeEventListener(this);
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (watcher != null) {
+                watcher.close();
+                watcher = null;
+            }
+        }
+
+        @Override
+        public void handleDevModeEvent(DevModeEvent event) {
+            if (event.getType() == DevModeEvent.Type.DEBUG_PORT && event.getProjectName().equals(projectName)) {
+                coordinator.execute(() -> portReported(event));
+            }
+        }
+
+        @Override
+        public void stateChanged(String name, DevModeState oldState, DevModeState newState) {
+            if (name.equals(projectName) && !newState.isActive()) {
+                result.complete(null);
+            }
+        }
+    }
+}
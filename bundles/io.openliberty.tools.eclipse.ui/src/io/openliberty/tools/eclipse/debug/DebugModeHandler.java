@@ -12,36 +12,18 @@
 *******************************************************************************/
 package io.openliberty.tools.eclipse.debug;
 
-import java.io.IOException;
-import java.net.ConnectException;
 import java.net.ServerSocket;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
-import java.util.concurrent.TimeUnit;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.IJobChangeEvent;
-import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdi.Bootstrap;
-import org.eclipse.jdi.TimeoutException;
-import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IViewPart;
@@ -49,17 +31,14 @@ import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
 
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.connect.AttachingConnector;
 import com.sun.jdi.connect.Connector;
 import com.sun.jdi.connect.Connector.Argument;
-import com.sun.jdi.connect.IllegalConnectorArgumentsException;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
-import io.openliberty.tools.eclipse.LibertyDevPlugin;
+import io.openliberty.tools.eclipse.LibertyPluginConfig;
 import io.openliberty.tools.eclipse.Project;
 import io.openliberty.tools.eclipse.Project.BuildType;
 import io.openliberty.tools.eclipse.logging.Trace;
@@ -90,12 +69,12 @@ public class DebugModeHandler {
     /** Debug Perspective ID. */
     public static String DEBUG_PERSPECTIVE_ID = "org.eclipse.debug.ui.DebugPerspective";
 
-    /** Job status return code indicating that an error took place while attempting to attach the debugger to the JVM. */
-    public static int JOB_STATUS_DEBUGGER_CONN_ERROR = 1;
-
     /** DevModeOperations instance. */
     private DevModeOperations devModeOps;
 
+    /** Attaches the debugger to the servers started in debug mode. */
+    private final DebugAttachCoordinator attachCoordinator = new DebugAttachCoordinator(this);
+
     /**
      * Constructor.
      */
@@ -207,7 +186,8 @@ public class DebugModeHandler {
     }
 
     /**
-     * Starts the job that will attempt to connect the debugger with the server's JVM.
+     * Starts attaching the debugger to the server's JVM. The attach is driven by the attach coordinator, so no thread is held
+     * while the server starts.
      * 
      * @param project   The project for which the debugger needs to be attached.
      * @param launch    The launch to which the debug target will be added.
@@ -216,111 +196,53 @@ public class DebugModeHandler {
      * @throws Exception
      */
     public void startDebugAttacher(Project project, ILaunch launch, String port) {
-        String projectName = project.getIProject().getName();
-
-        Job job = new Job("Attaching Debugger to JVM...") {
-            @Override
-            protected IStatus run(IProgressMonitor monitor) {
-                try {
-                    if (monitor.isCanceled()) {
-                        return Status.CANCEL_STATUS;
-                    }
-
-                    String debugPort = null;
-
-                    if (port == null) {
-                        // Read debug port from server.env. Retry every 3 seconds for 1 minute.
-                        int retries = 20;
-                        final Exception[] ex = new Exception[1];
-                        while (debugPort == null && retries > 0) {
-                            // Remove any exceptions we got from the last retry
-                            ex[0] = null;
-
-                            try {
-                                Path serverEnvPath = getServerEnvFile(project);
-                                if (serverEnvPath != null) {
-                                    debugPort = readDebugPortFromServerEnv(serverEnvPath);
-                                }
-                            } catch (Exception e) {
-                                // Save this for now until we are done with our retries;
-                                ex[0] = new Exception(e);
-                            }
-
-                            if (debugPort == null) {
-                                Thread.sleep(3000);
-                                retries--;
-                            }
-                        }
-                        if (debugPort == null) {
-                            // We failed to read the debug port. Throw an exception. This will be caught by the outer
-                            // catch block and the job will return with an error.
-                            String errorMessage = "Failed to read debug port from server.env file";
-                            if (ex[0] != null) {
-                                // Add the last exception we got.
-                                throw new Exception(errorMessage, ex[0]);
-                            } else {
-                                throw new Exception(errorMessage);
-                            }
-                        }
-                    } else {
-                        debugPort = port;
-                    }
+        Instant devModeStartTime = Instant.now();
 
-                    String portToConnect = waitForSocketActivation(project, DEFAULT_ATTACH_HOST, debugPort, monitor);
-                    if (portToConnect == null) {
-                        return Status.CANCEL_STATUS;
-                    }
-
-                    AttachingConnector connector = getAttachingConnector();
-                    Map<String, Argument> map = connector.defaultArguments();
-                    configureConnector(map, DEFAULT_ATTACH_HOST, Integer.parseInt(portToConnect));
-                    IDebugTarget debugTarget = createRemoteJDTDebugTarget(launch, Integer.parseInt(portToConnect),
-                                                                          DEFAULT_ATTACH_HOST,
-                                                                          connector, map);
-
-                    launch.addDebugTarget(debugTarget);
-
-                } catch (Exception e) {
-                    return new Status(IStatus.ERROR, LibertyDevPlugin.PLUGIN_ID, JOB_STATUS_DEBUGGER_CONN_ERROR, "An error was detected while attaching the debugger to the JVM.", e);
-                }
+        attachCoordinator.attach(project, launch, port, devModeStartTime).whenComplete((debugTarget, t) -> {
+            if (debugTarget != null) {
+                launch.addDebugTarget(debugTarget);
 
-                return Status.OK_STATUS;
-            }
-        };
-
-        // Register a job change listener. This listener performs job completion processing.
-        job.addJobChangeListener(new JobChangeAdapter() {
-            @Override
-            public void done(IJobChangeEvent event) {
-                IStatus result = event.getResult();
                 IWorkbench workbench = PlatformUI.getWorkbench();
                 Display display = workbench.getDisplay();
-
-                if (result.isOK()) {
-                    display.syncExec(new Runnable() {
-                        public void run() {
-                            openDebugPerspective();
-                            Utils.disableAppMonitoring(project);
-                        }
-                    });
-                } else {
-                    Throwable t = result.getException();
-
-                    if (t != null) {
-                        if (Trace.isEnabled()) {
-                            Trace.getTracer().trace(Trace.TRACE_UI, t.getMessage(), t);
-                        }
-
-                        ErrorHandler.processErrorMessage(t.getMessage(), t, false);
+                display.syncExec(new Runnable() {
+                    public void run() {
+                        openDebugPerspective();
+                        Utils.disableAppMonitoring(project);
                     }
+                });
+            } else if (t != null) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_UI, "An error was detected while attaching the debugger to the JVM.", t);
                 }
+
+                ErrorHandler.processErrorMessage(t.getMessage(), t, false);
             }
         });
+    }
+
+    /**
+     * Stops the threads attaching the debugger. Called when the plugin is stopped.
+     */
+    public void shutdown() {
+        attachCoordinator.shutdown();
+    }
 
-        job.schedule();
+    /**
+     * Returns a watcher reporting the debug port written to the server.env file of the input project.
+     * 
+     * @param project          The project for which the debugger is attached.
+     * @param devModeStartTime The time dev mode was started.
+     * 
+     * @return A watcher reporting the debug port written to the server.env file.
+     * 
+     * @throws Exception
+     */
+    DebugPortWatcher createDebugPortWatcher(Project project, Instant devModeStartTime) throws Exception {
+        return new DebugPortWatcher(project.getIProject().getName(), () -> getServerEnvPath(project),
+                                    devModeOps.getLibertyPluginConfigXmlPath(project).getParent(), this, devModeStartTime);
     }
 
-    private AttachingConnector getAttachingConnector() {
+    AttachingConnector getAttachingConnector() {
         List<?> connectors = Bootstrap.virtualMachineManager().attachingConnectors();
         for (int i = 0; i < connectors.size(); i++) {
             AttachingConnector c = (AttachingConnector) connectors.get(i);
@@ -338,7 +260,7 @@ public class DebugModeHandler {
      * @param host       the host name or IP address
      * @param portNumber the port number
      */
-    private void configureConnector(Map<String, Argument> map, String host, int portNumber) {
+    void configureConnector(Map<String, Argument> map, String host, int portNumber) {
         Connector.StringArgument hostArg = (Connector.StringArgument) map.get("hostname");
         hostArg.setValue(host);
 
@@ -346,8 +268,7 @@ public class DebugModeHandler {
         portArg.setValue(portNumber);
 
         // This timeout value is directly configurable from the "Launch timeout" in Eclipse Preferences.
-        // At the point when we connect, we already confirmed that we are able to connect to the socket,
-        // so this may not come into play. However, we are keeping it here just in case.
+        // It bounds the JDWP handshake of an attach attempt. A refused connection fails right away and is retried.
         Connector.IntegerArgument timeoutArg = (Connector.IntegerArgument) map.get("timeout");
         if (timeoutArg != null) {
             int timeout = Platform.getPreferencesService().getInt(
@@ -359,21 +280,10 @@ public class DebugModeHandler {
         }
     }
 
-    private IDebugTarget createRemoteJDTDebugTarget(ILaunch launch, int remoteDebugPortNum, String hostName,
-                                                    AttachingConnector connector, Map<String, Argument> map) throws CoreException {
+    IDebugTarget createRemoteJDTDebugTarget(ILaunch launch, VirtualMachine remoteVM, int remoteDebugPortNum, String hostName) {
         if (launch == null || hostName == null || hostName.length() == 0) {
             return null;
         }
-        VirtualMachine remoteVM = null;
-        Exception ex = null;
-        try {
-            remoteVM = attachJVM(hostName, remoteDebugPortNum, connector, map);
-        } catch (Exception e) {
-            ex = e;
-        }
-        if (remoteVM == null) {
-            throw new CoreException(new Status(IStatus.ERROR, this.getClass(), IJavaLaunchConfigurationConstants.ERR_CONNECTION_FAILED, "", ex));
-        }
         LibertyDebugTarget libertyDebugTarget = new LibertyDebugTarget(launch, remoteVM, hostName + ":" + remoteDebugPortNum);
 
         // Add hot code replace listener to listen for hot code replace failure.
@@ -382,60 +292,6 @@ public class DebugModeHandler {
         return libertyDebugTarget;
     }
 
-    /**
-     * Connect the debugger to the debug port of the target VM
-     * 
-     * @param hostName
-     * @param port
-     * @param connector
-     * @param map
-     * 
-     * @return
-     */
-    private VirtualMachine attachJVM(String hostName, int port, AttachingConnector connector, Map<String, Argument> map) {
-
-        // At this point, the "waitForSocketActivation" method has already been called so we know that we are able
-        // to connect to the Liberty server's debug port. However, there is still a gap here where we can get a
-        // connection refused exception when we attempt to attach the debugger. This could potentially be due to a difference in
-        // how we are writing to the socket, but whatever the reason, we have a timeout mechanism here as well to attempt the
-        // connection every 100ms for 10 seconds. Any IOExceptions like a "connection refused" will trigger a retry. Any timeout
-        // exceptions within the connector itself will not trigger a retry. We will catch that in the calling method and
-        // expose the timeout there. If we exhaust out retries we will return null and the calling method will throw a connection
-        // error.
-
-        VirtualMachine vm = null;
-        int timeOut = 10000;
-        try {
-            try {
-                vm = connector.attach(map);
-            } catch (IOException e) {
-                if (Trace.isEnabled()) {
-                    Trace.getTracer().trace(Trace.TRACE_UI,
-                                            "Error occurred while trying to connect to the remote virtual machine " + e.getMessage(), e);
-                }
-            } catch (TimeoutException e2) {
-                // do nothing
-            }
-
-            while (vm == null && timeOut > 0) {
-                try {
-                    Thread.sleep(100);
-                } catch (Exception e) {
-                    // do nothing
-                }
-                timeOut = timeOut - 100;
-                try {
-                    vm = connector.attach(map);
-                } catch (IOException e) {
-                    // do nothing
-                }
-            }
-        } catch (IllegalConnectorArgumentsException e) {
-            // Do nothing, return vm as null if it fails
-        }
-        return vm;
-    }
-
     /**
      * Opens the debug perspective with the liberty dashboard view.
      */
@@ -482,29 +338,36 @@ public class DebugModeHandler {
      * 
      * @throws Exception
      */
-    private Path getServerEnvFile(Project project) throws Exception {
-
-        Path libertyPluginConfigXmlPath = devModeOps.getLibertyPluginConfigXmlPath(project);
+    Path getServerEnvFile(Project project) throws Exception {
+        Path serverEnvPath = getServerEnvPath(project);
 
-        // Read server.env path from liberty-plugin-config.xml
+        // Make sure the server.env path exists. If not return null.
+        if (serverEnvPath == null || !Files.exists(serverEnvPath)) {
+            return null;
+        }
 
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        DocumentBuilder db = dbf.newDocumentBuilder();
+        return serverEnvPath;
 
-        Document doc = db.parse(libertyPluginConfigXmlPath.toFile());
-        doc.getDocumentElement().normalize();
+    }
 
-        NodeList list = doc.getElementsByTagName("serverDirectory");
-        Path serverEnvPath = Paths.get(list.item(0).getTextContent(), "server.env");
+    /**
+     * Returns the path of the server.env file of the Liberty server, whether or not the file exists.
+     * 
+     * @param project The project for which this operations is being performed.
+     * 
+     * @return The path of the server.env file, or null if liberty-plugin-config.xml was not written yet or does not record the server directory.
+     * 
+     * @throws Exception
+     */
+    private Path getServerEnvPath(Project project) throws Exception {
 
-        // Make sure the server.env path exists. If not return null.
-        if (!Files.exists(serverEnvPath)) {
+        // Read server.env path from liberty-plugin-config.xml
+        LibertyPluginConfig config = LibertyPluginConfig.get(devModeOps.getLibertyPluginConfigXmlPath(project));
+        if (config == null || config.getServerDirectory() == null) {
             return null;
         }
 
-        return serverEnvPath;
-
+        return config.getServerDirectory().resolve(WLP_SERVER_ENV_FILE_NAME);
     }
 
     /**
@@ -546,53 +409,6 @@ public class DebugModeHandler {
         return port;
     }
 
-    /**
-     * Waits for the JDWP socket on the JVM to start listening for connections.
-     * 
-     * @param host    The host to connect to.
-     * @param port    The port to connect to.
-     * @param monitor The progress monitor instance.
-     * 
-     * @returns The port that the debugger actually connected to.
-     * 
-     * @throws Exception
-     */
-    private String waitForSocketActivation(Project project, String host, String port, IProgressMonitor monitor) throws Exception {
-
-        // This is the first of several timeout mechanisms during the debugger connection. This method
-        // will attempt a write to the debug port of the target VM (Liberty server) once every second for
-        // 3 minutes. This seems like a reasonable amount of time for the debug port to become available
-        // so for now we are not making this timeout configurable. If in the future, we need to expose
-        // this timeout value, we could potentially tie it to the "Launch timeout" setting of in the
-        // Eclipse "Debug" preferences.
-
-        byte[] handshakeString = "JDWP-Handshake".getBytes(StandardCharsets.US_ASCII);
-        int retryLimit = 180;
-
-        for (int retryCount = 0; retryCount < retryLimit; retryCount++) {
-
-            // Check if the job was cancelled.
-            if (monitor.isCanceled()) {
-                return null;
-            }
-
-            // Abort if the project has stopped
-            if (!devModeOps.isProjectStarted(project.getIProject().getName())) {
-                return null;
-            }
-
-            try (Socket socket = new Socket(host, Integer.valueOf(port))) {
-                socket.getOutputStream().write(handshakeString);
-                return port;
-            } catch (ConnectException ce) {
-                TimeUnit.SECONDS.sleep(1);
-            }
-        }
-
-        throw new Exception("Timed out trying to attach the debugger to JVM on host: " + host + " and port: " + port
-                            + ".  If the server starts later you might try to manually connect the debugger from the launch in the Debug view  You can confirm the debug port used in the console output looking for a message like  'Liberty debug port: [ 63624 ]'.");
-    }
-
     private class DataHolder {
         boolean started;
     }
@@ -0,0 +1,232 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.debug;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.process.DevModeEvent;
+import io.openliberty.tools.eclipse.process.ProcessController;
+
+/**
+ * Watches the server.env file of a dev mode server for the debug port, as a complement to the debug port message dev mode
+ * prints. The directory holding the file, or the nearest existing ancestor of it if the server was not created yet, is
+ * watched with a WatchService, so the port is found as soon as WLP_DEBUG_ADDRESS is written. If the file system does not
+ * support watching, the file is polled instead. The port is reported as a DEBUG_PORT event of the project.
+ */
+class DebugPortWatcher implements AutoCloseable {
+
+    /** The interval, in milliseconds, at which the file is checked when watching is not supported. */
+    private static final long POLL_INTERVAL_MS = 1000;
+
+    /** The maximum time, in milliseconds, between two checks when watching, in case an event is missed. */
+    private static final long WATCH_CHECK_INTERVAL_MS = 5000;
+
+    /** Files last modified before this much time ahead of the start of dev mode belong to a previous run. */
+    private static final long MODIFICATION_TIME_TOLERANCE_MS = 2000;
+
+    /** The name of the project being debugged. */
+    private final String projectName;
+
+    /** Returns the path of the server.env file, or null if it is not known yet. */
+    private final Callable<Path> serverEnvResolver;
+
+    /** The directory watched until the path of the server.env file is known. */
+    private final Path configDirectory;
+
+    /** The debug mode handler reading the port from the file. */
+    private final DebugModeHandler debugModeHandler;
+
+    /** A server.env file last modified before this time was written by a previous run of dev mode. */
+    private final Instant notBefore;
+
+    /** The thread watching the file. */
+    private final Thread thread;
+
+    /** Indicates that the watcher is closed. */
+    private volatile boolean closed;
+
+    /** The watch service. Null if watching is not supported. */
+    private volatile WatchService watchService;
+
+    /**
+     * Constructor.
+     *
+     * @param projectName       The name of the project being debugged.
+     * @param serverEnvResolver Returns the path of the server.env file, or null if it is not known yet.
+     * @param configDirectory   The directory watched until the path of the server.env file is known, i.e. the directory
+     *                              holding liberty-plugin-config.xml.
+     * @param debugModeHandler  The debug mode handler reading the port from the file.
+     * @param devModeStartTime  The time dev mode was started.
+     */
+    DebugPortWatcher(String projectName, Callable<Path> serverEnvResolver, Path configDirectory, DebugModeHandler debugModeHandler,
+            Instant devModeStartTime) {
+        this.projectName = projectName;
+        this.serverEnvResolver = serverEnvResolver;
+        this.configDirectory = configDirectory;
+        this.debugModeHandler = debugModeHandler;
+        this.notBefore = devModeStartTime.minusMillis(MODIFICATION_TIME_TOLERANCE_MS);
+        this.thread = new Thread(this::run, "Liberty debug port watcher: " + projectName);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching.
+     */
+    void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "File watching is not supported. The server.env file of project " + projectName
+                                                           + " is polled.", e);
+            }
+        }
+        thread.start();
+    }
+
+    /**
+     * Stops watching.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        WatchService ws = watchService;
+        if (ws != null) {
+            try {
+                ws.close();
+            } catch (IOException e) {
+                // Nothing to do.
+            }
+        }
+        thread.interrupt();
+    }
+
+    /**
+     * Checks the file every time the watched directory changes, or periodically if watching is not supported, until the port
+     * is found or the watcher is closed.
+     */
+    private void run() {
+        Path watchedDirectory = null;
+        WatchKey watchKey = null;
+
+        try {
+            while (!closed) {
+                Path serverEnv = resolveServerEnv();
+                if (serverEnv != null && checkServerEnv(serverEnv)) {
+                    return;
+                }
+
+                WatchService ws = watchService;
+                if (ws == null) {
+                    Thread.sleep(POLL_INTERVAL_MS);
+                    continue;
+                }
+
+                // Watch the directory holding the file, or the nearest existing ancestor of it.
+                Path directory = nearestExistingDirectory((serverEnv != null) ? serverEnv.getParent() : configDirectory);
+                if (directory != null && !directory.equals(watchedDirectory)) {
+                    if (watchKey != null) {
+                        watchKey.cancel();
+                    }
+                    watchKey = directory.register(ws, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    watchedDirectory = directory;
+                    continue;
+                }
+
+                WatchKey signaled = ws.poll(WATCH_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (signaled != null) {
+                    signaled.pollEvents();
+                    signaled.reset();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher was closed.
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to watch the server.env file of project " + projectName, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the server.env file.
+     *
+     * @return The path of the server.env file, or null if it is not known yet.
+     */
+    private Path resolveServerEnv() {
+        try {
+            return serverEnvResolver.call();
+        } catch (Exception e) {
+            // The plugin configuration is being written.
+            return null;
+        }
+    }
+
+    /**
+     * Reads the debug port from the input server.env file, if the file was written by the current run of dev mode, and reports
+     * it.
+     *
+     * @param serverEnv The server.env file.
+     *
+     * @return True if the port was found. False otherwise.
+     */
+    private boolean checkServerEnv(Path serverEnv) {
+        try {
+            if (!Files.exists(serverEnv) || Files.getLastModifiedTime(serverEnv).toInstant().isBefore(notBefore)) {
+                return false;
+            }
+
+            String port = debugModeHandler.readDebugPortFromServerEnv(serverEnv);
+            if (port == null || port.isEmpty()) {
+                return false;
+            }
+
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Debug port " + port + " of project " + projectName + " found in " + serverEnv);
+            }
+            ProcessController.getInstance().reportEvent(new DevModeEvent(projectName, DevModeEvent.Type.DEBUG_PORT, port,
+                                                                         DebugModeHandler.WLP_ENV_DEBUG_ADDRESS + "=" + port));
+            return true;
+        } catch (Exception e) {
+            // The file is being written. It is checked again on the next change.
+            return false;
+        }
+    }
+
+    /**
+     * Returns the input directory or its nearest existing ancestor.
+     *
+     * @param directory The directory.
+     *
+     * @return The input directory or its nearest existing ancestor. Null if none exists.
+     */
+    private static Path nearestExistingDirectory(Path directory) {
+        Path current = directory;
+        while (current != null && !Files.isDirectory(current)) {
+            current = current.getParent();
+        }
+
+        return current;
+    }
+}
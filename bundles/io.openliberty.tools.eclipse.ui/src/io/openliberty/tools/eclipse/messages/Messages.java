@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2025 IBM Corporation and others.
+ * Copyright (c) 2023, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ public class Messages extends NLS {
     public static String start_no_project_found;
     public static String start_already_issued;
     public static String start_general_error;
+    public static String start_stop_in_progress;
 
     public static String start_container_no_project_found;
     public static String start_container_already_issued;
@@ -37,6 +38,8 @@ public class Messages extends NLS {
     public static String run_tests_no_prior_start;
     public static String run_tests_general_error;
 
+    public static String restart_no_prior_start;
+
     public static String mvn_int_test_report_no_project_found;
     public static String mvn_int_test_report_none_found;
     public static String mvn_int_test_report_general_error;
@@ -63,6 +66,7 @@ public class Messages extends NLS {
     public static String image_descriptions_error;
     public static String action_general_error;
     public static String dashboard_refresh_error;
+    public static String dashboard_scanning;
 
     /** JRETab */
     public static String java_default_set_error;
@@ -88,6 +92,10 @@ public class Messages extends NLS {
     public static String maven_exec_not_found;
     public static String gradle_exec_not_found;
 
+    /** DevModeProcess */
+    public static String console_output_discarded;
+    public static String console_output_discarded_spilled;
+
     /** Project */
     public static String determine_java_project_error;
     public static String liberty_nature_add_error;
@@ -0,0 +1,224 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import io.openliberty.tools.eclipse.CommandBuilder;
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Runs short lived commands, such as the Liberty plugin stop goal or the Gradle daemon stop, without blocking the caller. The
+ * output of the command is drained as it is produced, so the command never blocks on a full pipe, and it is written to the
+ * trace. The most recent output lines are kept for the result. The command is destroyed if it does not complete within its
+ * timeout, or if the progress monitor is canceled.
+ */
+public class CommandRunner {
+
+    /** The maximum number of output lines kept in the result. */
+    private static final int MAX_OUTPUT_LINES = 200;
+
+    /** The interval, in milliseconds, at which the timeout and the progress monitor are checked. */
+    private static final long CHECK_INTERVAL_MS = 250;
+
+    /** The time, in milliseconds, given to a destroyed command to end before it is forcibly destroyed. */
+    private static final long DESTROY_GRACE_PERIOD_MS = 5000;
+
+    /** Checks the timeout and the progress monitor of the running commands. */
+    private static final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Liberty Tools command watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The outcome of a command that ran to completion.
+     */
+    public static class Result {
+
+        /** The exit code of the command. */
+        private final int exitCode;
+
+        /** The most recent lines of output of the command. */
+        private final String output;
+
+        /**
+         * Constructor.
+         *
+         * @param exitCode The exit code of the command.
+         * @param output   The most recent lines of output of the command.
+         */
+        Result(int exitCode, String output) {
+            this.exitCode = exitCode;
+            this.output = output;
+        }
+
+        /**
+         * Returns the exit code of the command.
+         *
+         * @return The exit code of the command.
+         */
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        /**
+         * Returns the most recent lines of output of the command. Standard error is merged into the output.
+         *
+         * @return The most recent lines of output of the command.
+         */
+        public String getOutput() {
+            return output;
+        }
+    }
+
+    /**
+     * Constructor.
+     */
+    private CommandRunner() {
+    }
+
+    /**
+     * Starts the input command. The returned future completes with the result of the command once it ends. It completes
+     * exceptionally with a TimeoutException if the command does not end within the timeout, with an IOException if the
+     * command could not be started or its output could not be read, and it is canceled if the progress monitor is canceled.
+     * The command is destroyed if the future completes, or is canceled, before the command ends.
+     *
+     * @param command   The command to run. The first element is the executable and the others are its arguments.
+     * @param directory The directory in which the command is run.
+     * @param envs      The environment variables to be added to the environment of the command. Null if none.
+     * @param timeoutMs The maximum time, in milliseconds, the command is allowed to run. Zero or less if there is no limit.
+     * @param monitor   The progress monitor whose cancellation cancels the command. Null if none.
+     *
+     * @return The future result of the command.
+     */
+    public static CompletableFuture<Result> run(List<String> command, File directory, Map<String, String> envs, long timeoutMs,
+            IProgressMonitor monitor) {
+        String commandLine = CommandBuilder.toCommandLine(command);
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(directory);
+        builder.redirectErrorStream(true);
+        if (envs != null) {
+            builder.environment().putAll(envs);
+        }
+
+        Process process;
+        try {
+            process = builder.start();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Started command: " + commandLine + ". PID: " + process.pid());
+        }
+
+        CompletableFuture<Result> future = new CompletableFuture<Result>();
+
+        Thread drainer = new Thread(() -> drain(process, future), "Liberty Tools command output: " + process.pid());
+        drainer.setDaemon(true);
+        drainer.start();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        ScheduledFuture<?> check = watchdog.scheduleWithFixedDelay(() -> {
+            if (monitor != null && monitor.isCanceled()) {
+                future.cancel(false);
+            } else if (timeoutMs > 0 && System.nanoTime() - deadline >= 0) {
+                future.completeExceptionally(new TimeoutException("The command " + commandLine + " did not complete within " + timeoutMs + " ms."));
+            }
+        }, CHECK_INTERVAL_MS, CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        future.whenComplete((result, t) -> {
+            check.cancel(false);
+            if (process.isAlive()) {
+                destroy(process, commandLine);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Reads the output of the input process until it ends and completes the input future with its result.
+     *
+     * @param process The process.
+     * @param future  The future result of the process.
+     */
+    private static void drain(Process process, CompletableFuture<Result> future) {
+        Deque<String> lines = new ArrayDeque<String>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "[" + process.pid() + "] " + line);
+                }
+                if (lines.size() == MAX_OUTPUT_LINES) {
+                    lines.removeFirst();
+                }
+                lines.addLast(line);
+            }
+
+            int exitCode = process.waitFor();
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Command with PID " + process.pid() + " ended. Exit code: " + exitCode);
+            }
+            future.complete(new Result(exitCode, String.join(System.lineSeparator(), lines)));
+        } catch (IOException e) {
+            // The stream is closed if the process was destroyed. The future is already complete in that case.
+            future.completeExceptionally(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Destroys the input process and its descendants, i.e. the JVM started by a mvnw or gradlew script. Processes that do not
+     * end within the grace period are forcibly destroyed.
+     *
+     * @param process     The process to destroy.
+     * @param commandLine The command run by the process.
+     */
+    private static void destroy(Process process, String commandLine) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Destroying command: " + commandLine + ". PID: " + process.pid());
+        }
+
+        List<ProcessHandle> descendants = process.descendants().toList();
+        descendants.forEach(ProcessHandle::destroy);
+        process.destroy();
+
+        watchdog.schedule(() -> {
+            descendants.stream().filter(ProcessHandle::isAlive).forEach(ProcessHandle::destroyForcibly);
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }, DESTROY_GRACE_PERIOD_MS, TimeUnit.MILLISECONDS);
+    }
+}
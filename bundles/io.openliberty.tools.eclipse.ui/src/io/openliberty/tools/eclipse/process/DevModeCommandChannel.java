@@ -0,0 +1,167 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * The channel through which commands are sent to the standard input of a dev mode process. Commands are queued and written in
+ * order by a background thread through a single writer, so callers never block on the process and commands sent concurrently
+ * from several sources are not interleaved. A command that is identical to the last command still waiting in the queue is
+ * coalesced with it, i.e. repeated restart requests issued while the first one is pending result in a single restart.
+ */
+public class DevModeCommandChannel {
+
+    /** The maximum number of commands waiting to be written. */
+    private static final int MAX_PENDING_COMMANDS = 16;
+
+    /** The threads writing the commands of all channels. A channel is drained by at most one thread at a time. */
+    private static final ExecutorService writers = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "Liberty dev mode command writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The name of the project associated with the dev mode process. */
+    private final String projectName;
+
+    /** The writer over the standard input of the process. Only used by the thread draining the queue. */
+    private final Writer writer;
+
+    /** The commands waiting to be written. Guarded by this. */
+    private final Deque<PendingCommand> pending = new ArrayDeque<PendingCommand>();
+
+    /** Indicates that a thread is draining the queue. Guarded by this. */
+    private boolean draining;
+
+    /** Indicates that the channel is closed. Guarded by this. */
+    private boolean closed;
+
+    /**
+     * A command waiting to be written and the future completed once it is written.
+     */
+    private static class PendingCommand {
+
+        private final String command;
+
+        private final CompletableFuture<Void> written = new CompletableFuture<Void>();
+
+        PendingCommand(String command) {
+            this.command = command;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param projectName The name of the project associated with the dev mode process.
+     * @param stdin       The standard input of the process.
+     */
+    public DevModeCommandChannel(String projectName, OutputStream stdin) {
+        this.projectName = projectName;
+        this.writer = new BufferedWriter(new OutputStreamWriter(stdin));
+    }
+
+    /**
+     * Queues the input command. The command is followed by a line separator when it is written.
+     *
+     * @param command The command to send.
+     *
+     * @return A future completed once the command is written to the process. It completes exceptionally if the command could
+     *         not be written, if the channel is closed, or if too many commands are waiting to be written.
+     */
+    public CompletableFuture<Void> send(String command) {
+        PendingCommand next;
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IOException("The command channel of project " + projectName + " is closed."));
+            }
+
+            PendingCommand last = pending.peekLast();
+            if (last != null && last.command.equals(command)) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Command coalesced with a pending identical command for project " + projectName);
+                }
+                return last.written;
+            }
+
+            if (pending.size() >= MAX_PENDING_COMMANDS) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Too many commands are waiting to be sent to project "
+                                                                                      + projectName + "."));
+            }
+
+            next = new PendingCommand(command);
+            pending.addLast(next);
+            if (draining) {
+                return next.written;
+            }
+            draining = true;
+        }
+
+        writers.execute(this::drain);
+        return next.written;
+    }
+
+    /**
+     * Closes the channel. Commands still waiting are failed. Called when the process ends.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            for (PendingCommand command : pending) {
+                command.written.completeExceptionally(new IOException("The dev mode process of project " + projectName + " ended."));
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Writes the queued commands in order until the queue is empty.
+     */
+    private void drain() {
+        while (true) {
+            PendingCommand next;
+            synchronized (this) {
+                next = pending.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            try {
+                writer.write(next.command);
+                writer.write(System.lineSeparator());
+                writer.flush();
+                next.written.complete(null);
+            } catch (IOException e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to write a command to the dev mode process of project " + projectName, e);
+                }
+                next.written.completeExceptionally(e);
+            }
+        }
+    }
+}
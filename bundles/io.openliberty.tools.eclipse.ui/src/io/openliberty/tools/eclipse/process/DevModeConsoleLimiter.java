@@ -0,0 +1,107 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.ui.DebugUITools;
+import org.eclipse.ui.console.ConsolePlugin;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleListener;
+import org.eclipse.ui.console.IConsoleManager;
+import org.eclipse.ui.console.IOConsole;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+
+/**
+ * Limits the size of the console document of a dev mode process. The console is created asynchronously once the process is
+ * added to its launch, so the limit is applied when the console is added to the console manager. Once the document reaches
+ * the high water mark, the oldest output is removed from the document until it is back to the low water mark.
+ */
+public class DevModeConsoleLimiter implements IConsoleListener {
+
+    /** The smallest low water mark accepted by the console. */
+    private static final int MIN_LOW_WATER_MARK = 1000;
+
+    /** The process whose console is to be limited. */
+    private final IProcess process;
+
+    /** The maximum number of characters kept in the console document. */
+    private final int highWaterMark;
+
+    /**
+     * Constructor.
+     *
+     * @param process       The process whose console is to be limited.
+     * @param highWaterMark The maximum number of characters kept in the console document.
+     */
+    private DevModeConsoleLimiter(IProcess process, int highWaterMark) {
+        this.process = process;
+        this.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * Limits the number of characters kept in the console document of the input process.
+     *
+     * @param process      The process whose console is to be limited.
+     * @param maxCharacters The maximum number of characters kept in the console document.
+     * @param devModeProcess The underlying process. The limiter stops waiting for the console once the process ends.
+     */
+    public static void limit(IProcess process, int maxCharacters, Process devModeProcess) {
+        ConsolePlugin consolePlugin = ConsolePlugin.getDefault();
+        if (consolePlugin == null) {
+            return;
+        }
+
+        DevModeConsoleLimiter limiter = new DevModeConsoleLimiter(process, Math.max(maxCharacters, MIN_LOW_WATER_MARK * 2));
+        IConsoleManager consoleManager = consolePlugin.getConsoleManager();
+        consoleManager.addConsoleListener(limiter);
+
+        // The console may have been created before the listener was registered.
+        IConsole console = DebugUITools.getConsole(process);
+        if (console != null) {
+            limiter.consolesAdded(new IConsole[] { console });
+        }
+
+        // Do not wait for a console that is never created (i.e. console output is not captured for the launch).
+        devModeProcess.onExit().thenRun(() -> consoleManager.removeConsoleListener(limiter));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void consolesAdded(IConsole[] consoles) {
+        for (IConsole console : consoles) {
+            if (console instanceof IOConsole && console instanceof org.eclipse.debug.ui.console.IConsole
+                    && ((org.eclipse.debug.ui.console.IConsole) console).getProcess() == process) {
+                int lowWaterMark = Math.max(highWaterMark * 3 / 4, MIN_LOW_WATER_MARK);
+                ((IOConsole) console).setWaterMarks(lowWaterMark, highWaterMark);
+                ConsolePlugin.getDefault().getConsoleManager().removeConsoleListener(this);
+
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Console output of " + process.getLabel() + " limited to " + highWaterMark
+                                                               + " characters.");
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void consolesRemoved(IConsole[] consoles) {
+        // Nothing to do.
+    }
+}
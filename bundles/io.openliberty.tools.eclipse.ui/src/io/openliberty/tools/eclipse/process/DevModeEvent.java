@@ -0,0 +1,103 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.time.Instant;
+
+/**
+ * An event reported by dev mode in its output.
+ */
+public class DevModeEvent {
+
+    /**
+     * Dev mode event types.
+     */
+    public enum Type {
+        /** The Liberty server is ready. */
+        SERVER_STARTED,
+
+        /** The Liberty server stopped. */
+        SERVER_STOPPED,
+
+        /** The Liberty server debug port was reported. The event value is the port. */
+        DEBUG_PORT,
+
+        /** The application was updated. The event value is the application name. */
+        APP_UPDATED,
+
+        /** A test run finished. */
+        TESTS_FINISHED,
+
+        /** Source or test compilation failed. */
+        COMPILE_FAILED
+    }
+
+    /** The name of the project associated with the dev mode process that reported the event. */
+    private final String projectName;
+
+    /** The event type. */
+    private final Type type;
+
+    /** The value reported with the event, or null if the event type has no value. */
+    private final String value;
+
+    /** The output line that reported the event. */
+    private final String line;
+
+    /** The time at which the event was reported. */
+    private final Instant time;
+
+    /**
+     * Constructor.
+     *
+     * @param projectName The name of the project associated with the dev mode process that reported the event.
+     * @param type        The event type.
+     * @param value       The value reported with the event, or null if the event type has no value.
+     * @param line        The output line that reported the event.
+     */
+    public DevModeEvent(String projectName, Type type, String value, String line) {
+        this.projectName = projectName;
+        this.type = type;
+        this.value = value;
+        this.line = line;
+        this.time = Instant.now();
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public Instant getTime() {
+        return time;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "DevModeEvent[project=" + projectName + ", type=" + type + ", value=" + value + ", time=" + time + "]";
+    }
+}
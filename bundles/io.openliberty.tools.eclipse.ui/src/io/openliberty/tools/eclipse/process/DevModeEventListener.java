@@ -0,0 +1,27 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+/**
+ * Listener notified of the events reported in the output of dev mode processes.
+ */
+public interface DevModeEventListener {
+
+    /**
+     * Called when a dev mode process reports an event. Called on the thread reading the output of the process, so
+     * implementations must not block.
+     *
+     * @param event The event.
+     */
+    void handleDevModeEvent(DevModeEvent event);
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+/**
+ * Bounded ring buffer between the thread reading the output of a dev mode process and the console reading that output.
+ * Writes never block: if the console falls behind by more than the capacity of the buffer, the oldest unread bytes are
+ * discarded and the console is told how many bytes it missed. Reads return the data written during a short batching window
+ * in one call, so that the console appends the output in a few large chunks rather than in many small ones.
+ */
+public class DevModeOutputBuffer {
+
+    /** The time a read waits for more data to arrive before returning what is already available. */
+    public static final long BATCH_WINDOW_MS = 50;
+
+    /** The buffer data. */
+    private final byte[] data;
+
+    /** The total number of bytes written to the buffer. */
+    private long written;
+
+    /** The total number of bytes consumed from the buffer, either read or discarded. */
+    private long consumed;
+
+    /** The number of bytes discarded since the last read. */
+    private long discarded;
+
+    /** The total number of bytes discarded. */
+    private long totalDiscarded;
+
+    /** Indicates that no more data will be written to the buffer. */
+    private boolean closed;
+
+    /** Builds the notice returned by a read that follows discarded output. Null if no notice is to be returned. */
+    private final DiscardNotice discardNotice;
+
+    /** The part of a discard notice that has not been read yet. */
+    private byte[] pendingNotice;
+
+    /** The read offset in pendingNotice. */
+    private int pendingNoticeOffset;
+
+    /** The input stream view of this buffer. */
+    private final InputStream inputStream = new BufferInputStream();
+
+    /**
+     * Creates the notice returned to the reader in place of the discarded output.
+     */
+    @FunctionalInterface
+    public interface DiscardNotice {
+
+        /**
+         * Returns the notice to return to the reader.
+         *
+         * @param discardedBytes The number of bytes discarded since the last read.
+         *
+         * @return The notice to return to the reader.
+         */
+        byte[] create(long discardedBytes);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity      The maximum number of unread bytes held by the buffer.
+     * @param discardNotice Builds the notice returned by a read that follows discarded output. Null if no notice is to be
+     *                          returned.
+     */
+    public DevModeOutputBuffer(int capacity, DiscardNotice discardNotice) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid buffer capacity: " + capacity);
+        }
+
+        this.data = new byte[capacity];
+        this.discardNotice = discardNotice;
+    }
+
+    /**
+     * Appends the input data to the buffer. If there is not enough room in the buffer, the oldest unread bytes are discarded.
+     * Data written after the buffer is closed is ignored.
+     *
+     * @param b   The data.
+     * @param off The start offset in the data.
+     * @param len The number of bytes to write.
+     */
+    public synchronized void write(byte[] b, int off, int len) {
+        if (closed || len <= 0) {
+            return;
+        }
+
+        // Only the tail end of a write larger than the buffer can ever be read.
+        if (len > data.length) {
+            written += len - data.length;
+            off += len - data.length;
+            len = data.length;
+        }
+
+        int start = (int) (written % data.length);
+        int firstChunk = Math.min(len, data.length - start);
+        System.arraycopy(b, off, data, start, firstChunk);
+        System.arraycopy(b, off + firstChunk, data, 0, len - firstChunk);
+        written += len;
+
+        long overrun = written - consumed - data.length;
+        if (overrun > 0) {
+            consumed += overrun;
+            discarded += overrun;
+            totalDiscarded += overrun;
+        }
+
+        notifyAll();
+    }
+
+    /**
+     * Marks the end of the data. Readers receive the remaining unread data followed by end of stream.
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Returns the number of bytes written to the buffer that are not read yet.
+     *
+     * @return The number of bytes written to the buffer that are not read yet.
+     */
+    public synchronized int available() {
+        return (int) (written - consumed);
+    }
+
+    /**
+     * Returns the total number of bytes discarded because the reader did not keep up.
+     *
+     * @return The total number of bytes discarded because the reader did not keep up.
+     */
+    public synchronized long getDiscardedCount() {
+        return totalDiscarded;
+    }
+
+    /**
+     * Returns the input stream view of this buffer. Reads block until data is available or the buffer is closed.
+     *
+     * @return The input stream view of this buffer.
+     */
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    /**
+     * Reads up to len bytes. Blocks until at least one byte is available or the buffer is closed and empty. Once data is
+     * available, the read waits up to BATCH_WINDOW_MS for the request to be filled.
+     *
+     * @param b   The destination array.
+     * @param off The start offset in the destination array.
+     * @param len The maximum number of bytes to read.
+     *
+     * @return The number of bytes read or -1 at end of stream.
+     *
+     * @throws InterruptedIOException If the calling thread is interrupted while it waits for data.
+     */
+    private synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        try {
+            while (written == consumed && pendingNotice == null && !closed) {
+                wait();
+            }
+
+            long deadline = System.currentTimeMillis() + BATCH_WINDOW_MS;
+            long remaining = BATCH_WINDOW_MS;
+            while (written - consumed < len && !closed && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+
+        if (discarded > 0) {
+            if (discardNotice != null) {
+                pendingNotice = discardNotice.create(discarded);
+                pendingNoticeOffset = 0;
+            }
+            discarded = 0;
+        }
+
+        if (pendingNotice != null) {
+            int count = Math.min(len, pendingNotice.length - pendingNoticeOffset);
+            System.arraycopy(pendingNotice, pendingNoticeOffset, b, off, count);
+            pendingNoticeOffset += count;
+            if (pendingNoticeOffset == pendingNotice.length) {
+                pendingNotice = null;
+            }
+            return count;
+        }
+
+        int count = (int) Math.min(len, written - consumed);
+        if (count == 0) {
+            return -1;
+        }
+
+        int start = (int) (consumed % data.length);
+        int firstChunk = Math.min(count, data.length - start);
+        System.arraycopy(data, start, b, off, firstChunk);
+        System.arraycopy(data, 0, b, off + firstChunk, count - firstChunk);
+        consumed += count;
+
+        return count;
+    }
+
+    /**
+     * Input stream view of the buffer.
+     */
+    private class BufferInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int count = DevModeOutputBuffer.this.read(b, 0, 1);
+            return (count == -1) ? -1 : (b[0] & 0xff);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            return DevModeOutputBuffer.this.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            return DevModeOutputBuffer.this.available();
+        }
+
+        @Override
+        public void close() {
+            DevModeOutputBuffer.this.close();
+        }
+    }
+}
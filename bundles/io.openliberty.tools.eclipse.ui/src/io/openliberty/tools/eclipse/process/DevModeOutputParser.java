@@ -0,0 +1,160 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.openliberty.tools.eclipse.process.DevModeEvent.Type;
+
+/**
+ * Streaming parser of one output stream of a dev mode process. The output is split into lines as it is read and each line is
+ * matched against the messages dev mode and the Liberty server print on lifecycle changes. A DevModeEvent is published for
+ * every match.
+ */
+public class DevModeOutputParser {
+
+    /** The maximum number of bytes of a line that are parsed. The remainder of longer lines is ignored. */
+    private static final int MAX_LINE_LENGTH = 8192;
+
+    /** ANSI escape sequences. Dev mode output is colored when ANSI support is enabled in the console. */
+    private static final Pattern ANSI_ESCAPE = Pattern.compile("\u001B\\[[;\\d]*[A-Za-z]");
+
+    /** The messages reporting events, by event type. The first capturing group, if any, is the event value. */
+    private static final Map<Type, Pattern> EVENT_PATTERNS = new LinkedHashMap<Type, Pattern>();
+
+    static {
+        // i.e. "Liberty debug port: [ 63624 ]" or "Liberty debug port mapped to Docker host port: [ 63624 ]"
+        EVENT_PATTERNS.put(Type.DEBUG_PORT, Pattern.compile("Liberty debug port.*\\[\\s*(\\d+)\\s*\\]"));
+        // CWWKF0011I: The defaultServer server is ready to run a smarter planet.
+        EVENT_PATTERNS.put(Type.SERVER_STARTED, Pattern.compile("CWWKF0011I:"));
+        // CWWKE0036I: The server defaultServer stopped after 5 minutes.
+        EVENT_PATTERNS.put(Type.SERVER_STOPPED, Pattern.compile("CWWKE0036I:"));
+        // CWWKZ0003I: The application demo updated in 0.5 seconds.
+        EVENT_PATTERNS.put(Type.APP_UPDATED, Pattern.compile("CWWKZ0003I: The application (\\S+) updated"));
+        // "Unit tests finished." or "Integration tests finished."
+        EVENT_PATTERNS.put(Type.TESTS_FINISHED, Pattern.compile("[Tt]ests finished\\."));
+        // "Source compilation had errors." or "Tests compilation had errors."
+        EVENT_PATTERNS.put(Type.COMPILE_FAILED, Pattern.compile("[Cc]ompilation had errors"));
+    }
+
+    /** The name of the project associated with the dev mode process. */
+    private final String projectName;
+
+    /** The consumer of the events found in the output. */
+    private final Consumer<DevModeEvent> eventSink;
+
+    /** The encoding of the output. */
+    private final Charset charset;
+
+    /** The bytes of the current line read so far. */
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+
+    /**
+     * Constructor.
+     *
+     * @param projectName The name of the project associated with the dev mode process.
+     * @param eventSink   The consumer of the events found in the output.
+     * @param charset     The encoding of the output, i.e. the encoding the console decodes it with.
+     */
+    public DevModeOutputParser(String projectName, Consumer<DevModeEvent> eventSink, Charset charset) {
+        this.projectName = projectName;
+        this.eventSink = eventSink;
+        this.charset = charset;
+    }
+
+    /**
+     * Parses the next chunk of output. Lines that end in the chunk are matched. The start of a line that does not end in the
+     * chunk is kept until the line ends.
+     *
+     * @param chunk The output data.
+     * @param count The number of bytes of output data.
+     */
+    public void parse(byte[] chunk, int count) {
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            if (chunk[i] == '\n') {
+                append(chunk, start, i - start);
+                endLine();
+                start = i + 1;
+            }
+        }
+        append(chunk, start, count - start);
+    }
+
+    /**
+     * Parses the current incomplete line, if any. Called when the end of the output is reached.
+     */
+    public void flush() {
+        if (line.size() > 0) {
+            endLine();
+        }
+    }
+
+    /**
+     * Returns the event reported by the input output line.
+     *
+     * @param projectName The name of the project associated with the dev mode process.
+     * @param outputLine  The output line.
+     *
+     * @return The event reported by the input output line, or null if the line does not report an event.
+     */
+    public static DevModeEvent parseLine(String projectName, String outputLine) {
+        String text = ANSI_ESCAPE.matcher(outputLine).replaceAll("").trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        for (Map.Entry<Type, Pattern> entry : EVENT_PATTERNS.entrySet()) {
+            Matcher matcher = entry.getValue().matcher(text);
+            if (matcher.find()) {
+                String value = (matcher.groupCount() > 0) ? matcher.group(1) : null;
+                return new DevModeEvent(projectName, entry.getKey(), value, text);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Appends the input bytes to the current line, up to MAX_LINE_LENGTH bytes.
+     *
+     * @param chunk  The output data.
+     * @param offset The start offset in the output data.
+     * @param length The number of bytes to append.
+     */
+    private void append(byte[] chunk, int offset, int length) {
+        int room = MAX_LINE_LENGTH - line.size();
+        if (room > 0 && length > 0) {
+            line.write(chunk, offset, Math.min(room, length));
+        }
+    }
+
+    /**
+     * Matches the current line and starts a new one.
+     */
+    private void endLine() {
+        String text = line.toString(charset);
+        line.reset();
+
+        DevModeEvent event = parseLine(projectName, text);
+        if (event != null) {
+            eventSink.accept(event);
+        }
+    }
+}
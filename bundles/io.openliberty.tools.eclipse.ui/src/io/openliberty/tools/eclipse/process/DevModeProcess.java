@@ -0,0 +1,386 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.util.NLS;
+
+import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.messages.Messages;
+
+/**
+ * A dev mode process whose output is decoupled from the console. A background thread per output stream drains the process
+ * output as fast as it is produced, copies it to a spill file and hands it to the console through a bounded
+ * DevModeOutputBuffer. The memory used to hold the output is therefore bounded by the buffer size no matter how chatty dev
+ * mode is or how slow the console is, and the most recent output remains available in the spill file. The spill file is
+ * rolled over once it reaches SPILL_FILE_LIMIT bytes, so the disk space it uses is bounded too. The output is also parsed as
+ * it is read, so that the events dev mode reports in its output are published as soon as they are printed.
+ */
+public class DevModeProcess extends Process {
+
+    /** The size of the chunks read from the process output streams. */
+    private static final int READ_SIZE = 8192;
+
+    /** The size, in bytes, at which the spill file is rolled over to a file with the same name and a .1 suffix. */
+    public static final long SPILL_FILE_LIMIT = 10L * 1024 * 1024;
+
+    /** The suffix appended to the name of the spill file when it is rolled over. */
+    public static final String ROLLED_OVER_SUFFIX = ".1";
+
+    /** The wrapped process. */
+    private final Process process;
+
+    /** The name of the project associated with the process. */
+    private final String projectName;
+
+    /** The buffer between the standard output of the process and the console. */
+    private final DevModeOutputBuffer stdoutBuffer;
+
+    /** The buffer between the standard error of the process and the console. */
+    private final DevModeOutputBuffer stderrBuffer;
+
+    /** The file to which the complete process output is written. Null if the output is not spilled. */
+    private final File spillFile;
+
+    /** The spill file output stream. Null if the output is not spilled. Shared by both pump threads. */
+    private volatile OutputStream spillStream;
+
+    /** The number of bytes written to the current spill file. */
+    private long spillSize;
+
+    /** The encoding used by the console to decode the output, and so to encode the text added to it. */
+    private final Charset charset;
+
+    /** The consumer of the events reported in the process output. Null if the output is not parsed. */
+    private final Consumer<DevModeEvent> eventSink;
+
+    /** Indicates that the process was asked to terminate, i.e. from the console terminate action. */
+    private volatile boolean destroyRequested;
+
+    /** The number of pump threads still running. The spill file is closed when the last one ends. */
+    private int activePumps = 2;
+
+    /**
+     * Constructor. Starts the threads reading the output of the input process.
+     *
+     * @param projectName The name of the project associated with the process.
+     * @param process     The process to wrap.
+     * @param bufferSize  The maximum number of unread bytes held for each of the output streams of the process.
+     * @param spillFile   The file to which the complete output is written. Null if the output is not to be spilled to disk.
+     * @param eventSink   The consumer of the events reported in the process output. Null if the output is not to be parsed.
+     * @param header      Text shown ahead of the standard output of the process, i.e. the command that was run. Null if none.
+     * @param charset     The encoding used by the console to decode the output. Used to encode the header and the notices.
+     */
+    public DevModeProcess(String projectName, Process process, int bufferSize, File spillFile, Consumer<DevModeEvent> eventSink,
+            String header, Charset charset) {
+        this.projectName = projectName;
+        this.charset = charset;
+        this.eventSink = eventSink;
+        this.process = process;
+        this.spillFile = spillFile;
+        if (spillFile != null) {
+            // The output rolled over during a previous run of the project is stale.
+            getRolledOverFile(spillFile).delete();
+        }
+        this.spillStream = openSpillFile(spillFile);
+        this.stdoutBuffer = new DevModeOutputBuffer(bufferSize, this::createDiscardNotice);
+        this.stderrBuffer = new DevModeOutputBuffer(bufferSize, this::createDiscardNotice);
+
+        if (header != null) {
+            byte[] headerBytes = header.getBytes(charset);
+            stdoutBuffer.write(headerBytes, 0, headerBytes.length);
+            spill(headerBytes, headerBytes.length, true);
+        }
+
+        startPump("stdout", process.getInputStream(), stdoutBuffer);
+        startPump("stderr", process.getErrorStream(), stderrBuffer);
+    }
+
+    /**
+     * Returns the file to which the complete process output is written.
+     *
+     * @return The file to which the complete process output is written. Null if the output is not spilled.
+     */
+    public File getSpillFile() {
+        return spillFile;
+    }
+
+    /**
+     * Returns the buffered standard output of the process. Reads return the output in batches.
+     *
+     * @return The buffered standard output of the process.
+     */
+    @Override
+    public InputStream getInputStream() {
+        return stdoutBuffer.getInputStream();
+    }
+
+    /**
+     * Returns the buffered standard error of the process. Reads return the output in batches.
+     *
+     * @return The buffered standard error of the process.
+     */
+    @Override
+    public InputStream getErrorStream() {
+        return stderrBuffer.getInputStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return process.getOutputStream();
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        return process.waitFor();
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) throws InterruptedException {
+        return process.waitFor(timeout, unit);
+    }
+
+    @Override
+    public int exitValue() {
+        return process.exitValue();
+    }
+
+    /**
+     * Returns true if the process was asked to terminate. False, otherwise.
+     *
+     * @return True if the process was asked to terminate. False, otherwise.
+     */
+    public boolean isDestroyRequested() {
+        return destroyRequested;
+    }
+
+    @Override
+    public void destroy() {
+        destroyRequested = true;
+        process.destroy();
+    }
+
+    @Override
+    public Process destroyForcibly() {
+        destroyRequested = true;
+        process.destroyForcibly();
+        return this;
+    }
+
+    @Override
+    public boolean supportsNormalTermination() {
+        return process.supportsNormalTermination();
+    }
+
+    @Override
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    @Override
+    public long pid() {
+        return process.pid();
+    }
+
+    @Override
+    public CompletableFuture<Process> onExit() {
+        return process.onExit().thenApply(p -> this);
+    }
+
+    @Override
+    public ProcessHandle toHandle() {
+        return process.toHandle();
+    }
+
+    @Override
+    public ProcessHandle.Info info() {
+        return process.info();
+    }
+
+    @Override
+    public Stream<ProcessHandle> children() {
+        return process.children();
+    }
+
+    @Override
+    public Stream<ProcessHandle> descendants() {
+        return process.descendants();
+    }
+
+    /**
+     * Starts a daemon thread that copies the input process stream to the spill file and to the input buffer, and parses it,
+     * until the end of the stream is reached.
+     *
+     * @param streamName The name of the stream. Used to name the thread.
+     * @param in         The process stream to read.
+     * @param buffer     The buffer to which the data read is written.
+     */
+    private void startPump(String streamName, InputStream in, DevModeOutputBuffer buffer) {
+        Thread pump = new Thread(() -> {
+            byte[] chunk = new byte[READ_SIZE];
+            DevModeOutputParser parser = (eventSink == null) ? null : new DevModeOutputParser(projectName, eventSink, charset);
+            try {
+                int count;
+                while ((count = in.read(chunk)) != -1) {
+                    buffer.write(chunk, 0, count);
+                    spill(chunk, count, in.available() == 0);
+                    if (parser != null) {
+                        parser.parse(chunk, count);
+                    }
+                }
+                if (parser != null) {
+                    parser.flush();
+                }
+            } catch (IOException e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS,
+                            "Error reading the " + streamName + " stream of the dev mode process for project " + projectName, e);
+                }
+            } finally {
+                buffer.close();
+                pumpEnded();
+            }
+        }, "Liberty dev mode " + streamName + " pump: " + projectName);
+        pump.setDaemon(true);
+        pump.start();
+    }
+
+    /**
+     * Writes the input data to the spill file. Writes from both pump threads are serialized so that lines are not interleaved
+     * within a chunk. If the data does not fit within SPILL_FILE_LIMIT, the spill file is rolled over first.
+     *
+     * @param chunk The data to write.
+     * @param count The number of bytes to write.
+     * @param flush Indicates whether or not the spill file should be flushed. The file is flushed when the process has no more
+     *                  output immediately available, so that it is written in batches.
+     */
+    private synchronized void spill(byte[] chunk, int count, boolean flush) {
+        if (spillStream == null) {
+            return;
+        }
+
+        if (spillSize > 0 && spillSize + count > SPILL_FILE_LIMIT) {
+            rollOver();
+            if (spillStream == null) {
+                return;
+            }
+        }
+
+        try {
+            spillStream.write(chunk, 0, count);
+            spillSize += count;
+            if (flush) {
+                spillStream.flush();
+            }
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Error writing dev mode output to spill file " + spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * Moves the current spill file to a file with the same name and a .1 suffix, replacing the output rolled over before, and
+     * starts a new spill file. If the spill file cannot be rolled over, the output is no longer spilled.
+     */
+    private void rollOver() {
+        try {
+            spillStream.close();
+            Files.move(spillFile.toPath(), getRolledOverFile(spillFile).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Error rolling over spill file " + spillFile, e);
+            }
+        }
+
+        spillStream = openSpillFile(spillFile);
+        spillSize = 0;
+    }
+
+    /**
+     * Closes the spill file once both pump threads have ended.
+     */
+    private synchronized void pumpEnded() {
+        if (--activePumps > 0 || spillStream == null) {
+            return;
+        }
+
+        try {
+            spillStream.close();
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Error closing spill file " + spillFile, e);
+            }
+        }
+    }
+
+    /**
+     * Opens the spill file. Any output in the file, i.e. from a previous run of the project, is replaced.
+     *
+     * @param file The spill file. Null if the output is not spilled.
+     *
+     * @return The spill file output stream, or null if the file could not be opened.
+     */
+    private OutputStream openSpillFile(File file) {
+        if (file == null) {
+            return null;
+        }
+
+        try {
+            file.getParentFile().mkdirs();
+            return new BufferedOutputStream(new FileOutputStream(file), READ_SIZE);
+        } catch (IOException e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to open dev mode output spill file " + file, e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the file to which the input spill file is moved when it is rolled over.
+     *
+     * @param file The spill file.
+     *
+     * @return The file to which the input spill file is moved when it is rolled over.
+     */
+    public static File getRolledOverFile(File file) {
+        return new File(file.getPath() + ROLLED_OVER_SUFFIX);
+    }
+
+    /**
+     * Returns the line shown in the console in place of output that was discarded.
+     *
+     * @param discardedBytes The number of bytes discarded.
+     *
+     * @return The line shown in the console in place of output that was discarded.
+     */
+    private byte[] createDiscardNotice(long discardedBytes) {
+        String notice = (spillStream == null) ? NLS.bind(Messages.console_output_discarded, discardedBytes)
+                                              : NLS.bind(Messages.console_output_discarded_spilled, discardedBytes, spillFile.getAbsolutePath());
+        return (System.lineSeparator() + notice + System.lineSeparator()).getBytes(charset);
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A run of dev mode for a project: the process, its lifecycle state and the last events it reported. A new session is
+ * created every time dev mode is started, so a process that is still ending cannot affect the session that replaced it.
+ */
+class DevModeSession {
+
+    /** The application project name. */
+    private final String projectName;
+
+    /** The lifecycle state. Transitions are made with compare-and-set so that concurrent requests cannot both succeed. */
+    private final AtomicReference<DevModeState> state = new AtomicReference<DevModeState>(DevModeState.STARTING);
+
+    /** The last event of each type reported by the process. */
+    private final Map<DevModeEvent.Type, DevModeEvent> lastEvents = new ConcurrentHashMap<DevModeEvent.Type, DevModeEvent>();
+
+    /** The dev mode process. Null until the process is started. */
+    private volatile DevModeProcess process;
+
+    /** The channel through which commands are sent to the process. Null until the process is started. */
+    private volatile DevModeCommandChannel commandChannel;
+
+    /**
+     * Constructor. The session starts in the STARTING state.
+     *
+     * @param projectName The application project name.
+     */
+    DevModeSession(String projectName) {
+        this.projectName = projectName;
+    }
+
+    String getProjectName() {
+        return projectName;
+    }
+
+    DevModeState getState() {
+        return state.get();
+    }
+
+    DevModeProcess getProcess() {
+        return process;
+    }
+
+    void setProcess(DevModeProcess process) {
+        this.process = process;
+        this.commandChannel = new DevModeCommandChannel(projectName, process.getOutputStream());
+    }
+
+    DevModeCommandChannel getCommandChannel() {
+        return commandChannel;
+    }
+
+    DevModeEvent getLastEvent(DevModeEvent.Type type) {
+        return lastEvents.get(type);
+    }
+
+    void putLastEvent(DevModeEvent event) {
+        lastEvents.put(event.getType(), event);
+    }
+
+    /**
+     * Moves the session to the input state if its current state is one of the input source states.
+     *
+     * @param from The states from which the transition is allowed.
+     * @param to   The new state.
+     *
+     * @return The state the session was in before the transition, or null if the transition was not allowed.
+     */
+    DevModeState transition(EnumSet<DevModeState> from, DevModeState to) {
+        while (true) {
+            DevModeState current = state.get();
+            if (!from.contains(current)) {
+                return null;
+            }
+            if (state.compareAndSet(current, to)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "DevModeSession[project=" + projectName + ", state=" + state.get() + ", process=" + process + "]";
+    }
+}
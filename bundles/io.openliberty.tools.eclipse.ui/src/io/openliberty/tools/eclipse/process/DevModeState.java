@@ -0,0 +1,55 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+/**
+ * The lifecycle states of the dev mode process associated with a project.
+ */
+public enum DevModeState {
+
+    /** The process was started and the server is not ready yet. */
+    STARTING,
+
+    /** The server is ready. */
+    RUNNING,
+
+    /** The server is restarting. It is ready again once it reports that it started. */
+    RESTARTING,
+
+    /** A stop request was issued. The process has not ended yet. */
+    STOPPING,
+
+    /** The process ended after a stop request or without error. This is also the state of projects never started. */
+    STOPPED,
+
+    /** The process could not be started or ended with an error without a stop request. */
+    FAILED;
+
+    /**
+     * Returns true if the process is running and accepts dev mode commands. False, otherwise.
+     *
+     * @return True if the process is running and accepts dev mode commands. False, otherwise.
+     */
+    public boolean isActive() {
+        return this == STARTING || this == RUNNING || this == RESTARTING;
+    }
+
+    /**
+     * Returns true if the process ended or was never started. False, otherwise.
+     *
+     * @return True if the process ended or was never started. False, otherwise.
+     */
+    public boolean isTerminal() {
+        return this == STOPPED || this == FAILED;
+    }
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+package io.openliberty.tools.eclipse.process;
+
+/**
+ * Listener notified of the lifecycle state changes of dev mode processes.
+ */
+public interface DevModeStateListener {
+
+    /**
+     * Called after the state of the dev mode process associated with a project changed. Called on the thread that caused the
+     * change, so implementations must not block.
+     *
+     * @param projectName The application project name.
+     * @param oldState    The previous state.
+     * @param newState    The new state.
+     */
+    void stateChanged(String projectName, DevModeState oldState, DevModeState newState);
+}
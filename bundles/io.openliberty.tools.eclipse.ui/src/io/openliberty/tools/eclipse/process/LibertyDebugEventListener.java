@@ -1,5 +1,8 @@
 package io.openliberty.tools.eclipse.process;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
@@ -11,33 +14,107 @@ import io.openliberty.tools.eclipse.DevModeOperations;
 import io.openliberty.tools.eclipse.Project;
 import io.openliberty.tools.eclipse.utils.Utils;
 
+/**
+ * Dispatches the debug events of the dev mode processes to their projects. A single instance is registered with the
+ * DebugPlugin while at least one dev mode process is running, and each event is mapped to its project with a single
+ * lookup.
+ */
 public class LibertyDebugEventListener implements IDebugEventSetListener {
 
-    private String projectName;
+    /** Instance of this class. */
+    private static final LibertyDebugEventListener instance = new LibertyDebugEventListener();
+
+    /** The running dev mode processes and the names of their projects. */
+    private final Map<IProcess, String> processProjectMap = new ConcurrentHashMap<IProcess, String>();
+
+    /** Indicates that this listener is registered with the DebugPlugin. */
+    private boolean registered;
+
+    /**
+     * Constructor.
+     */
+    private LibertyDebugEventListener() {
+    }
+
+    /**
+     * Returns the singleton instance of this class.
+     *
+     * @return The singleton instance of this class.
+     */
+    public static LibertyDebugEventListener getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts dispatching the debug events of the input process to the input project. The listener is registered with the
+     * DebugPlugin if this is the only process being tracked.
+     *
+     * @param iProcess    The dev mode process.
+     * @param projectName The application project name.
+     */
+    public synchronized void addProcess(IProcess iProcess, String projectName) {
+        processProjectMap.put(iProcess, projectName);
+        if (!registered) {
+            DebugPlugin.getDefault().addDebugEventListener(this);
+            registered = true;
+        }
+    }
+
+    /**
+     * Stops dispatching the debug events of the input process. The listener is unregistered from the DebugPlugin if no other
+     * process is being tracked.
+     *
+     * @param iProcess The dev mode process.
+     *
+     * @return The name of the project associated with the process, or null if the process was not being tracked.
+     */
+    public synchronized String removeProcess(IProcess iProcess) {
+        String projectName = processProjectMap.remove(iProcess);
+        if (registered && processProjectMap.isEmpty()) {
+            DebugPlugin.getDefault().removeDebugEventListener(this);
+            registered = false;
+        }
+
+        return projectName;
+    }
+
+    /**
+     * Stops tracking the input process and cleans up its project.
+     *
+     * @param iProcess The dev mode process that terminated.
+     */
+    public void processTerminated(IProcess iProcess) {
+        String projectName = removeProcess(iProcess);
+        if (projectName != null) {
+            DevModeOperations devModeOps = DevModeOperations.getInstance();
+            Project project = devModeOps.getProjectModel().getProject(projectName);
+
+            if (project != null) {
+                Utils.reEnableAppMonitoring(project);
+            }
+            devModeOps.cleanupProcess(projectName);
+        }
+    }
 
-    public LibertyDebugEventListener(String projectName) {
-        this.projectName = projectName;
+    /**
+     * Returns the number of processes whose debug events are being dispatched.
+     *
+     * @return The number of processes whose debug events are being dispatched.
+     */
+    public int getProcessCount() {
+        return processProjectMap.size();
     }
 
     @Override
     public void handleDebugEvents(DebugEvent[] events) {
         for (int i = 0; i < events.length; i++) {
             Object source = events[i].getSource();
-            DevModeOperations devModeOps = DevModeOperations.getInstance();
 
             if (source instanceof IProcess && events[i].getKind() == DebugEvent.TERMINATE) {
 
-                // This is an IProcess terminate event. Check if the IProcess matches
-                IProcess iProcess = (IProcess) source;
-                if (projectName.equals(iProcess.getLabel())) {
-                    // We match - cleanup
-                    Project project = devModeOps.getProjectModel().getProject(projectName);
-
-                    if (project != null) {
-                        Utils.reEnableAppMonitoring(project);
-                    }
-                    devModeOps.cleanupProcess(projectName);
-                    DebugPlugin.getDefault().removeDebugEventListener(this);
+                // This is an IProcess terminate event. Check if it is a dev mode process.
+                if (processProjectMap.containsKey(source)) {
+                    processTerminated((IProcess) source);
                 }
             } else if (events[i].getKind() == DebugEvent.CHANGE && source instanceof IDebugTarget) {
                 IDebugTarget target = (IDebugTarget) source;
@@ -46,9 +123,9 @@ public class LibertyDebugEventListener implements IDebugEventSetListener {
                     if (launch != null) {
                         IProcess[] processes = launch.getProcesses();
                         if (processes.length > 0) {
-                            String label = processes[0].getLabel();
-                            if (projectName.equals(label)) {
-                                Project project = devModeOps.getProjectModel().getProject(projectName);
+                            String projectName = processProjectMap.get(processes[0]);
+                            if (projectName != null) {
+                                Project project = DevModeOperations.getInstance().getProjectModel().getProject(projectName);
                                 if (project != null) {
                                     Utils.reEnableAppMonitoring(project);
                                 }
@@ -59,5 +136,4 @@ public class LibertyDebugEventListener implements IDebugEventSetListener {
             }
         }
     }
-
 }
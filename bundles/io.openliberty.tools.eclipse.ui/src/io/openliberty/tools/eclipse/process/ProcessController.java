@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022, 2025 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,24 +14,66 @@ package io.openliberty.tools.eclipse.process;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.model.IProcess;
 
+import io.openliberty.tools.eclipse.CommandBuilder;
+import io.openliberty.tools.eclipse.LibertyDevPlugin;
 import io.openliberty.tools.eclipse.logging.Trace;
-import io.openliberty.tools.eclipse.utils.Utils;
 
 /**
- * Manages the set up running dev mode processes.
+ * Manages the set up running dev mode processes. Each project has a lifecycle state (see DevModeState) that is updated
+ * from the requests issued to its process, the events the process reports in its output and the end of the process.
  */
 public class ProcessController {
 
-    /** The set of processes associated with different application projects. */
-    private static final ConcurrentHashMap<String, Process> projectProcessMap = new ConcurrentHashMap<String, Process>();
+    /** Preference key for the size, in KB, of the buffers between the dev mode process output and the console. */
+    public static final String CONSOLE_BUFFER_SIZE_PREF = "CONSOLEBUFFERSIZE";
+
+    /** The default size, in KB, of the buffers between the dev mode process output and the console. */
+    public static final int DEFAULT_CONSOLE_BUFFER_SIZE_KB = 1024;
+
+    /** Preference key for the time, in seconds, dev mode is given to stop after the exit command before the stop is escalated. */
+    public static final String STOP_TIMEOUT_PREF = "DEVMODESTOPTIMEOUT";
+
+    /** The default time, in seconds, dev mode is given to stop after the exit command before the stop is escalated. */
+    public static final int DEFAULT_STOP_TIMEOUT_SECONDS = 30;
+
+    /** The directory in the plugin state location holding the complete output of the dev mode processes. */
+    public static final String SPILL_DIR_NAME = "devModeOutput";
+
+    /** The current or last dev mode session of each application project. */
+    private static final ConcurrentHashMap<String, DevModeSession> projectSessionMap = new ConcurrentHashMap<String, DevModeSession>();
+
+    /** The listeners notified of the events reported by dev mode processes. */
+    private static final CopyOnWriteArrayList<DevModeEventListener> eventListeners = new CopyOnWriteArrayList<DevModeEventListener>();
+
+    /** The listeners notified of the lifecycle state changes of dev mode processes. */
+    private static final CopyOnWriteArrayList<DevModeStateListener> stateListeners = new CopyOnWriteArrayList<DevModeStateListener>();
+
+    /** The states from which a stop request is accepted. */
+    private static final EnumSet<DevModeState> STOPPABLE_STATES = EnumSet.of(DevModeState.STARTING, DevModeState.RUNNING,
+                                                                               DevModeState.RESTARTING);
+
+    /** The states from which a restart request is accepted. */
+    private static final EnumSet<DevModeState> RESTARTABLE_STATES = EnumSet.of(DevModeState.STARTING, DevModeState.RUNNING,
+                                                                                 DevModeState.RESTARTING);
+
+    /** The interval at which a thread waiting for an event checks whether or not it should stop waiting. */
+    private static final long EVENT_WAIT_CHECK_INTERVAL_MS = 500;
 
     /** Instance of this class */
     private static ProcessController instance;
@@ -60,40 +102,19 @@ public class ProcessController {
      *
      * @param projectName The application project name.
      * @param projectPath The application project path.
-     * @param command     The command to execute.
+     * @param command     The command to execute. The first element is the executable and the others are its arguments.
      * @param envs        The environment properties to be set for the process.
+     * @param printCmd    Indicates whether or not the command is shown ahead of the process output.
+     * @param charset     The encoding used by the console to decode the process output.
      * 
-     * @throws IOException
-     */
-    public Process runProcess(String projectName, String projectPath, String command, List<String> envs, boolean printCmd) throws IOException {
-
-        List<String> commandList = new ArrayList<String>();
-
-        // Add exec statements and print commands
-        if (Utils.isWindows()) {
-            commandList.add("cmd.exe");
-            commandList.add("/c");
-            if (printCmd) {
-                StringBuilder sb = new StringBuilder();
-                sb.append("echo && ");
-                sb.append("echo Liberty Tools running command: " + command);
-                sb.append(" from directory: " + projectPath + " && ");
-                sb.append(command);
-                command = sb.toString();
-            }
-
-        } else {
-            commandList.add("/bin/sh");
-            if (printCmd) {
-                commandList.add("-xc");
-            } else {
-                commandList.add("-c");
-            }
-        }
-
-        commandList.add(command);
+     * @throws IOException           If the process could not be started.
+     * @throws IllegalStateException If a dev mode process is already running for the project.
+     */
+    public Process runProcess(String projectName, String projectPath, List<String> command, List<String> envs, boolean printCmd,
+            Charset charset) throws IOException {
 
-        ProcessBuilder builder = new ProcessBuilder(commandList);
+        // The command is run directly, without a shell, so its arguments reach the process exactly as built.
+        ProcessBuilder builder = new ProcessBuilder(command);
 
         builder.directory(new File(projectPath));
 
@@ -101,37 +122,128 @@ public class ProcessController {
         Map<String, String> environment = builder.environment();
 
         for (String env : envs) {
-            String[] keyValues = env.split("=");
+            String[] keyValues = env.split("=", 2);
             String key = keyValues[0];
-            String value = keyValues[1];
+            String value = (keyValues.length > 1) ? keyValues[1] : "";
             environment.put(key, value);
         }
 
-        Process process = builder.start();
+        // Print the command ahead of the process output.
+        String header = printCmd ? System.lineSeparator() + "Liberty Tools running command: " + CommandBuilder.toCommandLine(command)
+                                   + " from directory: " + projectPath + System.lineSeparator()
+                                 : null;
 
-        projectProcessMap.put(projectName, process);
+        DevModeSession existing = projectSessionMap.get(projectName);
+        if (existing != null && !existing.getState().isTerminal()) {
+            throw new IllegalStateException("Dev mode is already running for project " + projectName + ". State: " + existing.getState());
+        }
 
-        addTerminateListener(projectName);
+        // Start the process before the project is claimed, so that a claimed session always has a process to which a stop
+        // request can be sent.
+        Process osProcess = builder.start();
+
+        // Claim the project. Only one of several concurrent start requests succeeds, and a project cannot be started again
+        // until its previous process has ended. The process is attached to the session before the session is published.
+        DevModeSession session = new DevModeSession(projectName);
+        DevModeSession[] previous = new DevModeSession[1];
+        DevModeSession current = projectSessionMap.compute(projectName, (k, other) -> {
+            previous[0] = other;
+            if (other != null && !other.getState().isTerminal()) {
+                return other;
+            }
+            session.setProcess(new DevModeProcess(projectName, osProcess, getConsoleBufferSize(), getSpillFile(projectName),
+                                                  event -> publishEvent(session, event), header, charset));
+            return session;
+        });
+        if (current != session) {
+            osProcess.descendants().forEach(ProcessHandle::destroy);
+            osProcess.destroy();
+            throw new IllegalStateException("Dev mode is already running for project " + projectName + ". State: " + current.getState());
+        }
+        notifyStateChanged(projectName, (previous[0] == null) ? DevModeState.STOPPED : previous[0].getState(), DevModeState.STARTING);
+
+        DevModeProcess process = session.getProcess();
+        process.onExit().thenRun(() -> processEnded(session));
 
         return process;
     }
 
-    private void addTerminateListener(String projectName) {
-        DebugPlugin.getDefault().addDebugEventListener(new LibertyDebugEventListener(projectName));
+    /**
+     * Returns the size, in bytes, of the buffers between the output of a dev mode process and the console. The size is
+     * also the maximum number of characters kept in the console document.
+     *
+     * @return The size, in bytes, of the buffers between the output of a dev mode process and the console.
+     */
+    public static int getConsoleBufferSize() {
+        int sizeKB = 0;
+        LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+        if (plugin != null) {
+            sizeKB = plugin.getPreferenceStore().getInt(CONSOLE_BUFFER_SIZE_PREF);
+        }
+        if (sizeKB <= 0) {
+            sizeKB = DEFAULT_CONSOLE_BUFFER_SIZE_KB;
+        }
+
+        return sizeKB * 1024;
+    }
+
+    /**
+     * Returns the file to which the complete output of the dev mode process of the input project is written.
+     *
+     * @param projectName The application project name.
+     *
+     * @return The spill file, or null if the plugin state location is not available.
+     */
+    private File getSpillFile(String projectName) {
+        LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+
+        try {
+            return plugin.getStateLocation().append(SPILL_DIR_NAME).append(projectName + ".log").toFile();
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "Unable to find the plugin state location.", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Associates the debug model process of a dev mode process with its project, so that the project is cleaned up when the
+     * process terminates.
+     *
+     * @param iProcess    The debug model process wrapping the process returned by runProcess.
+     * @param projectName The application project name.
+     */
+    public void registerDebugProcess(IProcess iProcess, String projectName) {
+        LibertyDebugEventListener listener = LibertyDebugEventListener.getInstance();
+        listener.addProcess(iProcess, projectName);
+
+        // The terminate event is missed if the process ended before it was registered.
+        if (iProcess.isTerminated()) {
+            listener.processTerminated(iProcess);
+        }
     }
 
     /**
-     * Writes the input data to the running process associated with the input project name.
+     * Sends the input data, followed by a line separator, to the running process associated with the input project name. The
+     * data is queued and written in the background, in the order in which it was sent. Data identical to the last data still
+     * waiting to be written is coalesced with it.
      *
      * @param projectName The application project name.
-     * @param content     The data to write.
+     * @param data        The data to write.
+     *
+     * @return A future completed once the data is written to the process.
      *
-     * @throws Exception
+     * @throws Exception If there is no process associated with the project.
      */
-    public void writeToProcessStream(String projectName, String data) throws Exception {
-        Process process = projectProcessMap.get(projectName);
+    public CompletableFuture<Void> writeToProcessStream(String projectName, String data) throws Exception {
+        DevModeSession session = projectSessionMap.get(projectName);
+        DevModeCommandChannel commandChannel = (session == null) ? null : session.getCommandChannel();
 
-        if (process == null) {
+        if (commandChannel == null) {
             String msg = "Unable to write to the process associated with project " + projectName
                          + ". Internal process object not found.";
             if (Trace.isEnabled()) {
@@ -140,35 +252,383 @@ public class ProcessController {
             throw new Exception(msg);
         }
 
-        PrintWriter writer = new PrintWriter(process.getOutputStream());
-        writer.println(data);
-        writer.flush();
+        return commandChannel.send(data);
     }
 
     /**
      * Returns true if there is a process associated with this project and the
-     * process is alive.
+     * process accepts dev mode commands. That is, it is starting, running or restarting.
      * 
      * @param projectName - The name of the project to check.
      * 
-     * @return True if the process is alive. False otherwise.
+     * @return True if the process is active. False otherwise.
      */
     public boolean isProcessStarted(String projectName) {
-        Process process = projectProcessMap.get(projectName);
-        if (process != null) {
-            return process.isAlive();
+        return getState(projectName).isActive();
+    }
+
+    /**
+     * Returns true if a stop request was issued on the dev mode process associated with this project and the process has not
+     * ended yet.
+     *
+     * @param projectName - The name of the project to check.
+     *
+     * @return True if the process is stopping. False otherwise.
+     */
+    public boolean isProcessStopping(String projectName) {
+        return getState(projectName) == DevModeState.STOPPING;
+    }
+
+    /**
+     * Returns the names of the projects whose dev mode process is active. That is, it is starting, running or restarting.
+     *
+     * @return The names of the projects whose dev mode process is active.
+     */
+    public List<String> getActiveProjectNames() {
+        List<String> projectNames = new ArrayList<String>();
+        for (DevModeSession session : projectSessionMap.values()) {
+            if (session.getState().isActive()) {
+                projectNames.add(session.getProjectName());
+            }
         }
 
-        return false;
+        return projectNames;
+    }
+
+    /**
+     * Returns the lifecycle state of the dev mode process associated with the input project.
+     *
+     * @param projectName The application project name.
+     *
+     * @return The lifecycle state of the dev mode process. STOPPED if dev mode was never started for the project.
+     */
+    public DevModeState getState(String projectName) {
+        DevModeSession session = projectSessionMap.get(projectName);
+        return (session == null) ? DevModeState.STOPPED : session.getState();
     }
 
     /**
-     * Cleans up any objects associated with this project.
+     * Moves the dev mode process associated with the input project to the STOPPING state. Only one of several concurrent stop
+     * requests succeeds.
+     *
+     * @param projectName The application project name.
+     *
+     * @return True if the caller should issue the stop request. False if the process is not active, i.e. it was never started
+     *         or a stop request was already issued.
+     */
+    public boolean beginStop(String projectName) {
+        DevModeSession session = projectSessionMap.get(projectName);
+        return session != null && transition(session, STOPPABLE_STATES, DevModeState.STOPPING);
+    }
+
+    /**
+     * Moves the dev mode process associated with the input project to the RESTARTING state. The process moves back to the
+     * RUNNING state when the server reports that it started. A process that is already restarting accepts the request too, so
+     * that a restart that did not complete, i.e. because the server failed to start, can be retried.
+     *
+     * @param projectName The application project name.
+     *
+     * @return True if the caller should issue the restart request. False if the process is not active.
+     */
+    public boolean beginRestart(String projectName) {
+        DevModeSession session = projectSessionMap.get(projectName);
+        return session != null && transition(session, RESTARTABLE_STATES, DevModeState.RESTARTING);
+    }
+
+    /**
+     * Waits for the dev mode process associated with the input project to end.
+     *
+     * @param projectName The application project name.
+     * @param timeoutMs   The maximum time to wait, in milliseconds.
+     * @param monitor     The progress monitor whose cancellation ends the wait. Null if none.
+     *
+     * @return True if the process ended or if there is no process. False if the wait timed out or was canceled.
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean waitForExit(String projectName, long timeoutMs, IProgressMonitor monitor) throws InterruptedException {
+        DevModeSession session = projectSessionMap.get(projectName);
+        Process process = (session == null) ? null : session.getProcess();
+        if (process == null) {
+            return true;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (process.waitFor(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(EVENT_WAIT_CHECK_INTERVAL_MS)), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            if (monitor != null && monitor.isCanceled()) {
+                return false;
+            }
+        }
+
+        return !process.isAlive();
+    }
+
+    /**
+     * Destroys the dev mode process associated with the input project, along with its descendants, i.e. the JVM started by a
+     * mvnw or gradlew script. The process moves to the stopped state when it ends.
+     *
+     * @param projectName The application project name.
+     * @param forcibly    Indicates whether the processes are forcibly destroyed.
+     */
+    public void destroy(String projectName, boolean forcibly) {
+        DevModeSession session = projectSessionMap.get(projectName);
+        Process process = (session == null) ? null : session.getProcess();
+        if (process == null) {
+            return;
+        }
+
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, (forcibly ? "Forcibly destroying" : "Destroying") + " the dev mode process of project "
+                                                       + projectName + ". PID: " + process.pid());
+        }
+
+        if (forcibly) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        } else {
+            process.descendants().forEach(ProcessHandle::destroy);
+            process.destroy();
+        }
+    }
+
+    /**
+     * Returns the time, in seconds, dev mode is given to stop after the exit command before the stop is escalated.
+     *
+     * @return The time, in seconds, dev mode is given to stop after the exit command before the stop is escalated.
+     */
+    public static int getStopTimeoutSeconds() {
+        int seconds = 0;
+        LibertyDevPlugin plugin = LibertyDevPlugin.getDefault();
+        if (plugin != null) {
+            seconds = plugin.getPreferenceStore().getInt(STOP_TIMEOUT_PREF);
+        }
+
+        return (seconds > 0) ? seconds : DEFAULT_STOP_TIMEOUT_SECONDS;
+    }
+
+    /**
+     * Cleans up any objects associated with this project. The state of a process that has not ended is kept.
      * 
      * @param projectName - The name of the project to clean up.
      */
     public void cleanup(String projectName) {
-        projectProcessMap.remove(projectName);
+        projectSessionMap.computeIfPresent(projectName, (k, session) -> session.getState().isTerminal() ? null : session);
+    }
+
+    /**
+     * Registers a listener to be notified of the lifecycle state changes of dev mode processes.
+     *
+     * @param listener The listener to register.
+     */
+    public void addDevModeStateListener(DevModeStateListener listener) {
+        stateListeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Unregisters a listener notified of the lifecycle state changes of dev mode processes.
+     *
+     * @param listener The listener to unregister.
+     */
+    public void removeDevModeStateListener(DevModeStateListener listener) {
+        stateListeners.remove(listener);
+    }
+
+    /**
+     * Registers a listener to be notified of the events reported by dev mode processes.
+     *
+     * @param listener The listener to register.
+     */
+    public void addDevModeEventListener(DevModeEventListener listener) {
+        eventListeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Unregisters a listener notified of the events reported by dev mode processes.
+     *
+     * @param listener The listener to unregister.
+     */
+    public void removeDevModeEventListener(DevModeEventListener listener) {
+        eventListeners.remove(listener);
+    }
+
+    /**
+     * Returns the last event of the input type reported by the running process associated with the input project.
+     *
+     * @param projectName The application project name.
+     * @param type        The event type.
+     *
+     * @return The last event of the input type, or null if the process has not reported any event of that type.
+     */
+    public DevModeEvent getLastEvent(String projectName, DevModeEvent.Type type) {
+        DevModeSession session = projectSessionMap.get(projectName);
+        return (session == null) ? null : session.getLastEvent(type);
+    }
+
+    /**
+     * Waits for the running process associated with the input project to report an event of the input type. An event
+     * reported before this call satisfies the wait if it was reported after the input time.
+     *
+     * @param projectName The application project name.
+     * @param type        The event type.
+     * @param after       The time after which the event must have been reported. Null if any event of the input type
+     *                        satisfies the wait, including one reported before this call.
+     * @param timeout     The maximum time to wait in milliseconds.
+     * @param monitor     The progress monitor of the caller. The wait ends if it is cancelled. Can be null.
+     *
+     * @return The event, or null if the wait timed out, the monitor was cancelled, or the process stopped accepting commands.
+     *
+     * @throws InterruptedException If the calling thread is interrupted while it waits.
+     */
+    public DevModeEvent waitForEvent(String projectName, DevModeEvent.Type type, Instant after, long timeout, IProgressMonitor monitor)
+            throws InterruptedException {
+        CompletableFuture<DevModeEvent> result = new CompletableFuture<DevModeEvent>();
+        DevModeEventListener listener = event -> {
+            if (event.getType() == type && event.getProjectName().equals(projectName)
+                && (after == null || event.getTime().isAfter(after))) {
+                result.complete(event);
+            }
+        };
+        DevModeStateListener stateListener = (name, oldState, newState) -> {
+            if (name.equals(projectName) && !newState.isActive()) {
+                result.complete(null);
+            }
+        };
+
+        addDevModeEventListener(listener);
+        addDevModeStateListener(stateListener);
+        try {
+            // The event may have been reported before the listener was registered.
+            DevModeEvent last = getLastEvent(projectName, type);
+            if (last != null && (after == null || last.getTime().isAfter(after))) {
+                return last;
+            }
+
+            long deadline = System.currentTimeMillis() + timeout;
+            while (true) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || (monitor != null && monitor.isCanceled()) || !isProcessStarted(projectName)) {
+                    return null;
+                }
+
+                try {
+                    return result.get(Math.min(remaining, EVENT_WAIT_CHECK_INTERVAL_MS), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // Check whether or not to keep waiting.
+                } catch (ExecutionException e) {
+                    return null;
+                }
+            }
+        } finally {
+            removeDevModeEventListener(listener);
+            removeDevModeStateListener(stateListener);
+        }
+    }
+
+    /**
+     * Publishes an event that was observed outside of the output of the dev mode process, i.e. in a file written by dev mode.
+     * The event is ignored if the dev mode process of its project is not active.
+     *
+     * @param event The event.
+     */
+    public void reportEvent(DevModeEvent event) {
+        DevModeSession session = projectSessionMap.get(event.getProjectName());
+        if (session != null && session.getState().isActive()) {
+            publishEvent(session, event);
+        }
+    }
+
+    /**
+     * Records the input event, updates the state of the session that reported it and notifies the registered listeners.
+     *
+     * @param session The session whose process reported the event.
+     * @param event   The event reported by the process.
+     */
+    private void publishEvent(DevModeSession session, DevModeEvent event) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Dev mode event: " + event);
+        }
+
+        session.putLastEvent(event);
+
+        if (event.getType() == DevModeEvent.Type.SERVER_STARTED) {
+            transition(session, EnumSet.of(DevModeState.STARTING, DevModeState.RESTARTING), DevModeState.RUNNING);
+        } else if (event.getType() == DevModeEvent.Type.SERVER_STOPPED) {
+            // Dev mode stops and starts the server again on some configuration changes.
+            transition(session, EnumSet.of(DevModeState.RUNNING), DevModeState.RESTARTING);
+        }
+
+        for (DevModeEventListener listener : eventListeners) {
+            try {
+                listener.handleDevModeEvent(event);
+            } catch (Exception e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Dev mode event listener " + listener + " failed to process " + event, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the input session to its final state once its process has ended.
+     *
+     * @param session The session whose process ended.
+     */
+    private void processEnded(DevModeSession session) {
+        session.getCommandChannel().close();
+
+        DevModeProcess process = session.getProcess();
+        boolean stopRequested = session.getState() == DevModeState.STOPPING || process.isDestroyRequested();
+        DevModeState finalState = (stopRequested || process.exitValue() == 0) ? DevModeState.STOPPED : DevModeState.FAILED;
+
+        transition(session, EnumSet.complementOf(EnumSet.of(DevModeState.STOPPED, DevModeState.FAILED)), finalState);
+    }
+
+    /**
+     * Moves the input session to the input state if its current state is one of the input source states, and notifies the
+     * registered listeners of the change.
+     *
+     * @param session The session to update.
+     * @param from    The states from which the transition is allowed.
+     * @param to      The new state.
+     *
+     * @return True if the transition was made. False, otherwise.
+     */
+    private boolean transition(DevModeSession session, EnumSet<DevModeState> from, DevModeState to) {
+        DevModeState oldState = session.transition(from, to);
+        if (oldState == null) {
+            return false;
+        }
+
+        notifyStateChanged(session.getProjectName(), oldState, to);
+        return true;
+    }
+
+    /**
+     * Notifies the registered listeners of a state change.
+     *
+     * @param projectName The application project name.
+     * @param oldState    The previous state.
+     * @param newState    The new state.
+     */
+    private void notifyStateChanged(String projectName, DevModeState oldState, DevModeState newState) {
+        if (Trace.isEnabled()) {
+            Trace.getTracer().trace(Trace.TRACE_TOOLS, "Dev mode state of project " + projectName + ": " + oldState + " -> " + newState);
+        }
+
+        for (DevModeStateListener listener : stateListeners) {
+            try {
+                listener.stateChanged(projectName, oldState, newState);
+            } catch (Exception e) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "Dev mode state listener " + listener + " failed to process the change of project "
+                                                               + projectName + " to " + newState, e);
+                }
+            }
+        }
     }
 
     /**
@@ -178,8 +638,8 @@ public class ProcessController {
     public String toString() {
         StringBuffer sb = new StringBuffer();
         sb.append("Class: ").append(instance.getClass().getName()).append(": ");
-        sb.append("projectProcessMap size: ").append(projectProcessMap.size()).append(", ");
-        sb.append("projectProcessMap: ").append(projectProcessMap);
+        sb.append("projectSessionMap size: ").append(projectSessionMap.size()).append(", ");
+        sb.append("projectSessionMap: ").append(projectSessionMap);
         return sb.toString();
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 IBM Corporation and others.
+ * Copyright (c) 2022, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,7 +13,13 @@
 package io.openliberty.tools.eclipse.ui.dashboard;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.debug.core.ILaunchManager;
@@ -110,6 +116,16 @@ public class DashboardView extends ViewPart {
      */
     DevModeOperations devModeOps;
 
+    /**
+     * The names of the projects shown in the viewer, in display order. This list is the viewer input.
+     */
+    private final List<String> rows = new ArrayList<String>();
+
+    /**
+     * The build type each row was rendered with. Used to find the rows whose icon needs to be updated.
+     */
+    private final Map<String, Project.BuildType> rowBuildTypes = new HashMap<String, Project.BuildType>();
+
     /**
      * Constructor.
      */
@@ -127,7 +143,10 @@ public class DashboardView extends ViewPart {
         viewer.setContentProvider(ArrayContentProvider.getInstance());
         viewer.setLabelProvider(new DashboardEntryLabelProvider(devModeOps));
 
-        devModeOps.refreshDashboardView(true);
+        // The model is built in the background when the plugin is activated and kept up to date as projects change, so the
+        // view only needs to show its current content.
+        setScanning(devModeOps.isWorkspaceScanInProgress());
+        setInput(devModeOps.getProjectModel().getSortedDashboardProjectList());
 
         createActions();
         createContextMenu();
@@ -482,37 +501,112 @@ public class DashboardView extends ViewPart {
         ActionHandler gradleTestReportsHandler = new ActionHandler(viewGradleTestReportsAction);
         handlerService.activateHandler(viewGradleTestReportsAction.getActionDefinitionId(), gradleTestReportsHandler);
 
-        // Toolbar: Refresh the project list.
+        // Toolbar: Refresh the project list. The workspace is scanned again in the background.
         refreshAction = new Action(DASHBORD_TOOLBAR_ACTION_REFRESH) {
             @Override
             public void run() {
-                devModeOps.refreshDashboardView(true);
+                devModeOps.scheduleWorkspaceScan();
             }
         };
         refreshAction.setImageDescriptor(refreshImg);
     }
 
-    public void setInput(List<String> sortedDashboardProjectList) {
+    /**
+     * Shows or hides the indication that the workspace is being scanned for Liberty projects.
+     *
+     * @param scanning True if the workspace is being scanned. False, otherwise.
+     */
+    public void setScanning(boolean scanning) {
         if (viewer != null) {
-            viewer.setInput(sortedDashboardProjectList);
+            setContentDescription(scanning ? Messages.dashboard_scanning : "");
         }
     }
 
     /**
-     * Refreshes the dashboard view.
+     * Updates the dashboard content to match the input list. Only the rows that were added, removed or whose icon changed are
+     * updated. The whole table is reset only when the order of the existing rows changed. Must be called on the UI thread.
+     *
+     * @param sortedDashboardProjectList The sorted names of the projects to show.
      */
-    public void refreshDashboardView(WorkspaceProjectsModel projectModel, boolean reportError) {
-        try {
-            projectModel.createNewCompleteWorkspaceModelWithClassify();
-            setInput(projectModel.getSortedDashboardProjectList());
-        } catch (Exception e) {
-            String msg = "An error was detected when the Liberty dashboard content was refreshed.";
-            if (Trace.isEnabled()) {
-                Trace.getTracer().trace(Trace.TRACE_UI, msg, e);
+    public void setInput(List<String> sortedDashboardProjectList) {
+        if (viewer == null) {
+            return;
+        }
+
+        WorkspaceProjectsModel projectModel = devModeOps.getProjectModel();
+
+        if (viewer.getInput() != rows) {
+            rows.clear();
+            rows.addAll(sortedDashboardProjectList);
+            rowBuildTypes.clear();
+            for (String name : rows) {
+                rowBuildTypes.put(name, getBuildType(projectModel, name));
             }
-            ErrorHandler.processErrorMessage(NLS.bind(Messages.dashboard_refresh_error, null), e, reportError);
+            viewer.setInput(rows);
             return;
         }
+
+        // Remove the rows that are no longer shown.
+        Set<String> newNames = new HashSet<String>(sortedDashboardProjectList);
+        List<String> removed = rows.stream().filter(name -> !newNames.contains(name)).collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            rows.removeAll(removed);
+            removed.forEach(rowBuildTypes::remove);
+            viewer.remove(removed.toArray());
+        }
+
+        // Insert the new rows at their position. The remaining rows are expected to be in the same relative order.
+        List<String> merged = new ArrayList<String>(rows);
+        int index = 0;
+        for (String name : sortedDashboardProjectList) {
+            if (index < merged.size() && merged.get(index).equals(name)) {
+                index++;
+                continue;
+            }
+            if (rowBuildTypes.containsKey(name)) {
+                // An existing row moved. Reset the content.
+                viewer.setInput(null);
+                setInput(sortedDashboardProjectList);
+                return;
+            }
+            merged.add(index++, name);
+        }
+
+        index = 0;
+        for (String name : merged) {
+            if (!rowBuildTypes.containsKey(name)) {
+                rows.add(index, name);
+                rowBuildTypes.put(name, getBuildType(projectModel, name));
+                viewer.insert(name, index);
+            }
+            index++;
+        }
+
+        // Update the rows whose icon changed.
+        List<String> changed = new ArrayList<String>();
+        for (Map.Entry<String, Project.BuildType> entry : rowBuildTypes.entrySet()) {
+            Project.BuildType buildType = getBuildType(projectModel, entry.getKey());
+            if (buildType != entry.getValue()) {
+                entry.setValue(buildType);
+                changed.add(entry.getKey());
+            }
+        }
+        if (!changed.isEmpty()) {
+            viewer.update(changed.toArray(), null);
+        }
+    }
+
+    /**
+     * Returns the build type of the input project as known by the model, or null if the project is not part of the model.
+     *
+     * @param projectModel The workspace project model.
+     * @param projectName  The name of the project.
+     *
+     * @return The build type of the input project, or null if the project is not part of the model.
+     */
+    private Project.BuildType getBuildType(WorkspaceProjectsModel projectModel, String projectName) {
+        Project project = projectModel.getProject(projectName);
+        return (project == null) ? null : project.getBuildType();
     }
 
     public Table getTable() {
@@ -238,6 +238,16 @@ public class StartTab extends AbstractLaunchConfigurationTab {
                 super.setErrorMessage(NLS.bind(Messages.start_already_issued, configProjectName));
                 return false;
             }
+
+            // Check if a stop request on the project is still in progress
+            if (devModeOps.isProjectStopping(configProjectName)) {
+                if (Trace.isEnabled()) {
+                    Trace.getTracer().trace(Trace.TRACE_TOOLS, "A stop request is in progress on project " + configProjectName);
+                }
+
+                super.setErrorMessage(NLS.bind(Messages.start_stop_in_progress, configProjectName));
+                return false;
+            }
         } catch (CoreException ce) {
             String msg = "Error getting project name";
             if (Trace.isEnabled()) {
@@ -118,6 +118,15 @@ public class StartInContainerAction implements ILaunchShortcut {
             return;
         }
 
+        // Check if a stop request on the project is still in progress.
+        if (devModeOps.isProjectStopping(projectName)) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_TOOLS, "The start in container request was issued while a stop request is in progress on project " + projectName);
+            }
+            ErrorHandler.processErrorMessage(NLS.bind(Messages.start_stop_in_progress, projectName), true);
+            return;
+        }
+
         // Determine what configuration to use.
         LaunchConfigurationHelper launchConfigHelper = LaunchConfigurationHelper.getInstance();
         ILaunchConfiguration configuration = launchConfigHelper.getLaunchConfiguration(iProject, mode, RuntimeEnv.CONTAINER);
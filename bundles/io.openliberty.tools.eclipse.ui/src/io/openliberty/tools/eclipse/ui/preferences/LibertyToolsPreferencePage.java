@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,12 +18,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
 import org.eclipse.ui.preferences.ScopedPreferenceStore;
 
+import io.openliberty.tools.eclipse.CommandBuilder;
+import io.openliberty.tools.eclipse.DevModeOperations;
+import io.openliberty.tools.eclipse.process.ProcessController;
 import io.openliberty.tools.eclipse.utils.LibertyPrefDirectoryFieldEditor;
 import io.openliberty.tools.eclipse.utils.Utils;
 
@@ -31,6 +36,9 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
 
     LibertyPrefDirectoryFieldEditor mvnInstallFE;
     LibertyPrefDirectoryFieldEditor gradleInstallFE;
+    IntegerFieldEditor consoleBufferSizeFE;
+    IntegerFieldEditor stopTimeoutFE;
+    BooleanFieldEditor keepGradleDaemonFE;
 
     public LibertyToolsPreferencePage() {
 
@@ -40,11 +48,25 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
     @Override
     public void createFieldEditors() {
 
-        mvnInstallFE = new LibertyPrefDirectoryFieldEditor("MVNPATH", "&Maven Install Location:", getFieldEditorParent());
-        gradleInstallFE = new LibertyPrefDirectoryFieldEditor("GRADLEPATH", "&Gradle Install Location:", getFieldEditorParent());
+        mvnInstallFE = new LibertyPrefDirectoryFieldEditor(CommandBuilder.MVN_PATH_PREF, "&Maven Install Location:", getFieldEditorParent());
+        gradleInstallFE = new LibertyPrefDirectoryFieldEditor(CommandBuilder.GRADLE_PATH_PREF, "&Gradle Install Location:", getFieldEditorParent());
+
+        consoleBufferSizeFE = new IntegerFieldEditor(ProcessController.CONSOLE_BUFFER_SIZE_PREF, "Dev mode &console buffer size (KB):",
+                getFieldEditorParent());
+        consoleBufferSizeFE.setValidRange(64, 1024 * 1024);
+
+        stopTimeoutFE = new IntegerFieldEditor(ProcessController.STOP_TIMEOUT_PREF, "Dev mode &stop timeout (seconds):",
+                getFieldEditorParent());
+        stopTimeoutFE.setValidRange(1, 3600);
+
+        keepGradleDaemonFE = new BooleanFieldEditor(DevModeOperations.GRADLE_KEEP_DAEMON_PREF,
+                "&Keep Gradle daemons running when starting a Gradle project clean", getFieldEditorParent());
 
         addField(mvnInstallFE);
         addField(gradleInstallFE);
+        addField(consoleBufferSizeFE);
+        addField(stopTimeoutFE);
+        addField(keepGradleDaemonFE);
 
     }
 
@@ -52,6 +74,8 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
     public void init(IWorkbench workbench) {
         // second parameter is typically the plug-in id
         setPreferenceStore(new ScopedPreferenceStore(InstanceScope.INSTANCE, "io.openliberty.tools.eclipse.ui"));
+        getPreferenceStore().setDefault(ProcessController.CONSOLE_BUFFER_SIZE_PREF, ProcessController.DEFAULT_CONSOLE_BUFFER_SIZE_KB);
+        getPreferenceStore().setDefault(ProcessController.STOP_TIMEOUT_PREF, ProcessController.DEFAULT_STOP_TIMEOUT_SECONDS);
         setDescription(
                        "Use the Browse buttons to specify the Maven and Gradle installation locations to be used for starting the application in dev mode, which will be used if no mvnw/gradlew wrapper is found.");
     }
@@ -67,7 +91,11 @@ public class LibertyToolsPreferencePage extends FieldEditorPreferencePage implem
         boolean installGradleLocValid = false;
 
         String eventProp = event.getProperty();
-        if (event.getProperty().equals("field_editor_value")) {
+        if (event.getSource() == consoleBufferSizeFE || event.getSource() == stopTimeoutFE || event.getSource() == keepGradleDaemonFE) {
+            // The console buffer size and stop timeout are validated by their field editors. The Gradle daemon setting needs no
+            // validation.
+            super.propertyChange(event);
+        } else if (event.getProperty().equals("field_editor_value")) {
             // field for which validation is required
             if (event.getSource() == mvnInstallFE) {
                 // validate mvn loc
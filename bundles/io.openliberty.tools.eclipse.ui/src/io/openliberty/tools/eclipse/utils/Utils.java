@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2022, 2025 IBM Corporation and others.
+* Copyright (c) 2022, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -19,7 +19,6 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,15 +50,21 @@ import org.eclipse.ui.PlatformUI;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
 import io.openliberty.tools.eclipse.LibertyDevPlugin;
+import io.openliberty.tools.eclipse.LibertyPluginConfig;
 import io.openliberty.tools.eclipse.Project;
 import io.openliberty.tools.eclipse.debug.DebugModeHandler;
 import io.openliberty.tools.eclipse.logging.Trace;
+import io.openliberty.tools.eclipse.process.DevModeEvent;
+import io.openliberty.tools.eclipse.process.ProcessController;
 
 /**
  * Provides a set of utility methods.
  */
 public class Utils {
 
+    /** The maximum time to wait for the server to start again after a restart request. */
+    private static final long RESTART_WAIT_TIMEOUT_MS = 90000;
+
     /**
      * Returns true if the underlying OS is windows. False, otherwise.
      *
@@ -293,8 +298,8 @@ public class Utils {
     }
 
     /**
-     * Runs a background job to wait for a new server.env file to be created, signifying the restart of the application,
-     * and then reconnects the Liberty debugger.
+     * Runs a background job to wait for dev mode to report that the server has started again, signifying the restart of the
+     * application, and then reconnects the Liberty debugger.
      * 
      * @param project
      * @param launch
@@ -310,32 +315,18 @@ public class Utils {
                     return Status.CANCEL_STATUS;
                 }
 
-                int maxAttempts = 30;
-
-                // Check to see if a new server.env file has been created.
-                for (int i = 0; i < maxAttempts; i++) {
-                    try {
-                        // Get server.env file's last modified timestamp
-                        File usrDir = new File(getUsrDirPath(project).toString());
-                        Path serverEnvFilePath = findFileByName(usrDir, "server.env").toPath();
-                        FileTime fileTime = Files.getLastModifiedTime(serverEnvFilePath);
-                        Instant fileModifiedInstant = fileTime.toInstant();
-
-                        // Compare the timestamps
-                        if (fileModifiedInstant.isAfter(preRestartTime)) {
-                            return Status.OK_STATUS;
-                        }
-
-                        Thread.sleep(3000);
-                    } catch (Exception e) {
-                        if (Trace.isEnabled()) {
-                            Trace.getTracer().trace(Trace.TRACE_UI, "Caught exception waiting for application to restart", e);
-                        }
-                        return Status.CANCEL_STATUS;
+                try {
+                    DevModeEvent started = ProcessController.getInstance().waitForEvent(project.getIProject().getName(),
+                                                                                        DevModeEvent.Type.SERVER_STARTED,
+                                                                                        preRestartTime, RESTART_WAIT_TIMEOUT_MS,
+                                                                                        monitor);
+                    return (started != null) ? Status.OK_STATUS : Status.CANCEL_STATUS;
+                } catch (InterruptedException e) {
+                    if (Trace.isEnabled()) {
+                        Trace.getTracer().trace(Trace.TRACE_UI, "Caught exception waiting for application to restart", e);
                     }
+                    return Status.CANCEL_STATUS;
                 }
-
-                return Status.CANCEL_STATUS;
             }
         };
 
@@ -485,9 +476,22 @@ public class Utils {
         }
     }
 
-    // Get the usr directory path from the maven/gradle output folder.
+    // Get the usr directory path recorded by the Liberty plugin, or the default one in the maven/gradle output folder.
     private static File getUsrDirPath(Project project) {
-        if (project.getBuildType() == Project.BuildType.MAVEN) {
+        boolean isMaven = project.getBuildType() == Project.BuildType.MAVEN;
+        Path configXml = Paths.get(project.getPath(), isMaven ? "target" : "build", LibertyPluginConfig.FILE_NAME);
+        try {
+            LibertyPluginConfig config = LibertyPluginConfig.get(configXml);
+            if (config != null && config.getUserDirectory() != null) {
+                return config.getUserDirectory().toFile();
+            }
+        } catch (Exception e) {
+            if (Trace.isEnabled()) {
+                Trace.getTracer().trace(Trace.TRACE_UI, "Unable to read " + configXml + ". The default usr directory is used.", e);
+            }
+        }
+
+        if (isMaven) {
             return Paths.get(project.getPath(), "target", "liberty", "wlp", "usr").toFile();
         } else {
             return Paths.get(project.getPath(), "build", "wlp", "usr").toFile();
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2025 IBM Corporation and others.
+* Copyright (c) 2025, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,8 +17,11 @@ import static io.openliberty.tools.eclipse.test.it.utils.SWTBotPluginOperations.
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.swtbot.eclipse.finder.SWTWorkbenchBot;
 import org.junit.jupiter.api.Test;
@@ -39,8 +42,8 @@ public class CommandBuilderTest {
         // resolve to "" + "/bin/mvn" = "/bin/mvn" and would typically be an actual path on Unix/Mac
         unsetBuildCmdPathInPreferences(new SWTWorkbenchBot(), "Maven");
         Path projectPath = Paths.get("resources", "applications", "maven", "liberty-maven-test-wrapper-app");
-        String retVal = CommandBuilder.getMavenCommandLine(projectPath.toString(), "-a 123", obfuscatedPath());
-        assertEquals((mvnwName()) + " -a 123", retVal, "Wrong cmd line");
+        List<String> retVal = CommandBuilder.getMavenCommand(projectPath.toString(), "-a 123", obfuscatedPath());
+        assertEquals(Arrays.asList(projectPath.toAbsolutePath().resolve(mvnwName()).toString(), "-a", "123"), retVal, "Wrong cmd");
     }
 
     /**
@@ -53,8 +56,37 @@ public class CommandBuilderTest {
         Path projectPath = Paths.get("resources", "applications", "maven", "liberty-maven-test-app");
         Path mvnPath = Paths.get("resources", "execs");
         String pathEnv = obfuscatedPath() + File.pathSeparator + mvnPath.toAbsolutePath().toString();
-        String retVal = CommandBuilder.getMavenCommandLine(projectPath.toString(), "-a 123", pathEnv);
-        assertEquals(mvnPath.toAbsolutePath().resolve(mvnName()) + " -a 123", retVal, "Wrong cmd line");
+        List<String> retVal = CommandBuilder.getMavenCommand(projectPath.toString(), "-a 123", pathEnv);
+        assertEquals(Arrays.asList(mvnPath.toAbsolutePath().resolve(mvnName()).toString(), "-a", "123"), retVal, "Wrong cmd");
+    }
+
+    /**
+     * Tests the CommandBuilder reuses the executable resolved for a project until the project's cached commands are
+     * invalidated
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCmdBuilderCache() throws Exception {
+        unsetBuildCmdPathInPreferences(new SWTWorkbenchBot(), "Maven");
+        Path projectPath = Files.createTempDirectory("cmdBuilderCache");
+        Path wrapper = Files.createFile(projectPath.resolve(mvnwName()));
+        Files.createDirectories(projectPath.resolve(".mvn").resolve("wrapper"));
+        Files.createFile(projectPath.resolve(".mvn").resolve("wrapper").resolve("maven-wrapper.properties"));
+        Path mvnPath = Paths.get("resources", "execs");
+        String pathEnv = obfuscatedPath() + File.pathSeparator + mvnPath.toAbsolutePath().toString();
+
+        List<String> retVal = CommandBuilder.getMavenCommand(projectPath.toString(), "-a 123", pathEnv);
+        assertEquals(wrapper.toAbsolutePath().toString(), retVal.get(0), "Wrong cmd");
+
+        // The wrapper is no longer probed once resolved.
+        Files.delete(wrapper);
+        retVal = CommandBuilder.getMavenCommand(projectPath.toString(), "-a 123", pathEnv);
+        assertEquals(wrapper.toAbsolutePath().toString(), retVal.get(0), "Wrong cached cmd");
+
+        CommandBuilder.invalidateCachedCommands(projectPath.toString());
+        retVal = CommandBuilder.getMavenCommand(projectPath.toString(), "-a 123", pathEnv);
+        assertEquals(mvnPath.toAbsolutePath().resolve(mvnName()).toString(), retVal.get(0), "Wrong cmd after invalidation");
     }
 
     /**
@@ -78,9 +110,9 @@ public class CommandBuilderTest {
 
     private String mvnwName() {
         if (System.getProperty("os.name").contains("Windows")) {
-            return ".\\mvnw.cmd";
+            return "mvnw.cmd";
         } else {
-            return "./mvnw";
+            return "mvnw";
         }
     }
 
@@ -0,0 +1,79 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+
+package io.openliberty.tools.eclipse.test.ut;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.openliberty.tools.eclipse.process.CommandRunner;
+
+public class CommandRunnerTest {
+
+    /** A program that prints the number of lines given as its first argument and then sleeps for the given milliseconds. */
+    private static final String PROGRAM = "public class Chatty { public static void main(String[] a) throws Exception {"
+                                          + " for (int i = 0; i < Integer.parseInt(a[0]); i++) { System.out.println(\"line \" + i); }"
+                                          + " Thread.sleep(Long.parseLong(a[1])); System.exit(3); } }";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a command writing more output than a pipe can hold completes, and that the most recent output is returned.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOutputIsDrained() throws Exception {
+        CompletableFuture<CommandRunner.Result> future = CommandRunner.run(chattyCommand(20000, 0), tempDir.toFile(), null, 60000, null);
+
+        CommandRunner.Result result = future.get(60, TimeUnit.SECONDS);
+        assertEquals(3, result.getExitCode(), "Wrong exit code");
+        assertTrue(result.getOutput().endsWith("line 19999"), "Wrong output: " + result.getOutput());
+    }
+
+    /**
+     * Tests that a command that does not complete within its timeout is reported as timed out and destroyed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTimeout() throws Exception {
+        CompletableFuture<CommandRunner.Result> future = CommandRunner.run(chattyCommand(1, 60000), tempDir.toFile(), null, 3000, null);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(60, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException, "Wrong failure: " + e.getCause());
+    }
+
+    private List<String> chattyCommand(int lines, long sleepMs) throws Exception {
+        Path source = tempDir.resolve("Chatty.java");
+        Files.writeString(source, PROGRAM);
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+        return Arrays.asList(java, source.toString(), Integer.toString(lines), Long.toString(sleepMs));
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+
+package io.openliberty.tools.eclipse.test.ut;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.openliberty.tools.eclipse.process.DevModeCommandChannel;
+
+public class DevModeCommandChannelTest {
+
+    private static final String NL = System.lineSeparator();
+
+    /**
+     * Tests that commands are written in order, and that a command identical to the last pending command is coalesced with it.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOrderAndCoalescing() throws Exception {
+        BlockingStream stdin = new BlockingStream();
+        DevModeCommandChannel channel = new DevModeCommandChannel("app", stdin);
+
+        // The first command is picked up by the writer, which then blocks until the stream is released.
+        CompletableFuture<Void> first = channel.send("r");
+        stdin.writeStarted.await(10, TimeUnit.SECONDS);
+
+        CompletableFuture<Void> second = channel.send("r");
+        CompletableFuture<Void> third = channel.send("r");
+        CompletableFuture<Void> fourth = channel.send("");
+        assertSame(second, third, "Identical pending commands were not coalesced");
+
+        stdin.release.countDown();
+        CompletableFuture.allOf(first, second, fourth).get(10, TimeUnit.SECONDS);
+
+        assertEquals("r" + NL + "r" + NL + NL, stdin.toString(), "Wrong data written");
+    }
+
+    /**
+     * Tests that commands sent after the channel is closed are failed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSendAfterClose() throws Exception {
+        DevModeCommandChannel channel = new DevModeCommandChannel("app", new ByteArrayOutputStream());
+        channel.close();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> channel.send("exit").get(10, TimeUnit.SECONDS));
+        assertEquals(IOException.class, e.getCause().getClass(), "Wrong failure");
+    }
+
+    /**
+     * A stream whose first flush blocks until it is released.
+     */
+    private static class BlockingStream extends ByteArrayOutputStream {
+
+        final CountDownLatch writeStarted = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void flush() throws IOException {
+            writeStarted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
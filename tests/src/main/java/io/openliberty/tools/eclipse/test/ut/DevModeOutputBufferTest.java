@@ -0,0 +1,76 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+
+package io.openliberty.tools.eclipse.test.ut;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.openliberty.tools.eclipse.process.DevModeOutputBuffer;
+
+public class DevModeOutputBufferTest {
+
+    /**
+     * Tests that the data written to the buffer is read back in order, followed by end of stream once the buffer is closed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testReadAfterClose() throws Exception {
+        DevModeOutputBuffer buffer = new DevModeOutputBuffer(16, null);
+        write(buffer, "0123456789");
+        write(buffer, "abcdef");
+        buffer.close();
+
+        assertEquals("0123456789abcdef", readAll(buffer.getInputStream()), "Wrong data read");
+        assertEquals(0, buffer.getDiscardedCount(), "Wrong discarded count");
+    }
+
+    /**
+     * Tests that writing more than the capacity of the buffer discards the oldest unread data and that the reader is told
+     * how much data it missed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOverrunDiscardsOldestData() throws Exception {
+        DevModeOutputBuffer buffer = new DevModeOutputBuffer(8, discarded -> ("[" + discarded + "]").getBytes(StandardCharsets.UTF_8));
+        write(buffer, "0123456789");
+        write(buffer, "abcd");
+        write(buffer, "0123456789abcdefghij");
+        buffer.close();
+
+        assertEquals("[26]cdefghij", readAll(buffer.getInputStream()), "Wrong data read");
+        assertEquals(26, buffer.getDiscardedCount(), "Wrong discarded count");
+    }
+
+    private void write(DevModeOutputBuffer buffer, String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        buffer.write(bytes, 0, bytes.length);
+    }
+
+    private String readAll(InputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[5];
+        int count;
+        while ((count = in.read(chunk)) != -1) {
+            out.write(chunk, 0, count);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+
+package io.openliberty.tools.eclipse.test.ut;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.openliberty.tools.eclipse.process.DevModeEvent;
+import io.openliberty.tools.eclipse.process.DevModeOutputParser;
+
+public class DevModeOutputParserTest {
+
+    /**
+     * Tests that the lifecycle messages printed by dev mode are recognized, with or without ANSI color sequences.
+     */
+    @Test
+    public void testParseLine() {
+        DevModeEvent event = DevModeOutputParser.parseLine("app", "\u001B[1;34m[INFO]\u001B[m Liberty debug port: [ 63624 ]");
+        assertEquals(DevModeEvent.Type.DEBUG_PORT, event.getType(), "Wrong event type");
+        assertEquals("63624", event.getValue(), "Wrong debug port");
+
+        event = DevModeOutputParser.parseLine("app", "[INFO] [AUDIT   ] CWWKF0011I: The defaultServer server is ready to run a smarter planet.");
+        assertEquals(DevModeEvent.Type.SERVER_STARTED, event.getType(), "Wrong event type");
+
+        event = DevModeOutputParser.parseLine("app", "[INFO] [AUDIT   ] CWWKZ0003I: The application demo updated in 0.512 seconds.");
+        assertEquals(DevModeEvent.Type.APP_UPDATED, event.getType(), "Wrong event type");
+        assertEquals("demo", event.getValue(), "Wrong application name");
+
+        event = DevModeOutputParser.parseLine("app", "[ERROR] Source compilation had errors.");
+        assertEquals(DevModeEvent.Type.COMPILE_FAILED, event.getType(), "Wrong event type");
+
+        assertNull(DevModeOutputParser.parseLine("app", "[INFO] Scanning for projects..."), "Unexpected event");
+    }
+
+    /**
+     * Tests that lines split across output chunks are reassembled before they are matched.
+     */
+    @Test
+    public void testParseChunks() {
+        List<DevModeEvent> events = new ArrayList<DevModeEvent>();
+        DevModeOutputParser parser = new DevModeOutputParser("app", events::add, StandardCharsets.UTF_8);
+
+        byte[] output = "[INFO] Unit tests fin".getBytes(StandardCharsets.UTF_8);
+        parser.parse(output, output.length);
+        assertEquals(0, events.size(), "Event published before the end of the line");
+
+        output = "ished.\r\n[INFO] Liberty debug port: [ 7777 ]".getBytes(StandardCharsets.UTF_8);
+        parser.parse(output, output.length);
+        assertEquals(1, events.size(), "Wrong number of events");
+        assertEquals(DevModeEvent.Type.TESTS_FINISHED, events.get(0).getType(), "Wrong event type");
+
+        parser.flush();
+        assertEquals(2, events.size(), "Wrong number of events");
+        assertEquals("7777", events.get(1).getValue(), "Wrong debug port");
+    }
+
+    /**
+     * Tests that lines are decoded with the encoding of the output.
+     */
+    @Test
+    public void testParseCharset() {
+        List<DevModeEvent> events = new ArrayList<DevModeEvent>();
+        DevModeOutputParser parser = new DevModeOutputParser("app", events::add, StandardCharsets.ISO_8859_1);
+
+        byte[] output = "[INFO] CWWKZ0003I: The application caf\u00e9 updated in 0.5 seconds.\n".getBytes(StandardCharsets.ISO_8859_1);
+        parser.parse(output, output.length);
+        assertEquals(1, events.size(), "Wrong number of events");
+        assertEquals("caf\u00e9", events.get(0).getValue(), "Wrong application name");
+    }
+}
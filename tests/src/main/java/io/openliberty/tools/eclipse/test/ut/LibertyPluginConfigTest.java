@@ -0,0 +1,69 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial implementation
+*******************************************************************************/
+
+package io.openliberty.tools.eclipse.test.ut;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.openliberty.tools.eclipse.LibertyPluginConfig;
+
+public class LibertyPluginConfigTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that the locations are read from the top level elements, and that the file is parsed again only when it changes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParseAndCache() throws Exception {
+        Path file = tempDir.resolve(LibertyPluginConfig.FILE_NAME);
+        assertNull(LibertyPluginConfig.get(file), "A configuration was returned for a missing file");
+
+        Files.writeString(file, configXml("/wlp/usr/servers/defaultServer"));
+        LibertyPluginConfig config = LibertyPluginConfig.get(file);
+        assertEquals(Paths.get("/wlp/usr/servers/defaultServer"), config.getServerDirectory(), "Wrong server directory");
+        assertEquals(Paths.get("/wlp"), config.getInstallDirectory(), "Wrong install directory");
+        assertEquals(Paths.get("/wlp/usr"), config.getUserDirectory(), "Wrong user directory");
+        assertEquals(Paths.get("/app/src/main/liberty/config"), config.getConfigDirectory(), "Wrong config directory");
+        assertSame(config, LibertyPluginConfig.get(file), "An unchanged file was parsed again");
+
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.writeString(file, configXml("/wlp/usr/servers/otherServer"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertEquals(Paths.get("/wlp/usr/servers/otherServer"), LibertyPluginConfig.get(file).getServerDirectory(),
+                     "A changed file was not parsed again");
+    }
+
+    private static String configXml(String serverDirectory) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + "<liberty-plugin-config version=\"2.0\">\n"
+               + "    <serverDirectory>" + serverDirectory + "</serverDirectory>\n" + "    <userDirectory>/wlp/usr</userDirectory>\n"
+               + "    <installDirectory>/wlp</installDirectory>\n"
+               + "    <configDirectory>/app/src/main/liberty/config</configDirectory>\n"
+               + "    <installAppPackages>project</installAppPackages>\n" + "    <bootstrapProperties>\n"
+               + "        <serverDirectory>/ignored</serverDirectory>\n" + "    </bootstrapProperties>\n"
+               + "</liberty-plugin-config>\n";
+    }
+}
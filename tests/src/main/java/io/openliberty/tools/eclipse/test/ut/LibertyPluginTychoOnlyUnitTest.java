@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2023 IBM Corporation and others.
+* Copyright (c) 2023, 2026 IBM Corporation and others.
 *
 * This program and the accompanying materials are made available under the
 * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,16 +13,33 @@
 package io.openliberty.tools.eclipse.test.ut;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.model.IProcess;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +48,10 @@ import org.junit.jupiter.api.TestInfo;
 import org.mockito.MockedStatic;
 
 import io.openliberty.tools.eclipse.DevModeOperations;
+import io.openliberty.tools.eclipse.Project;
 import io.openliberty.tools.eclipse.WorkspaceProjectsModel;
+import io.openliberty.tools.eclipse.process.LibertyDebugEventListener;
+import io.openliberty.tools.eclipse.process.ProcessController;
 import io.openliberty.tools.eclipse.ui.launch.JRETab;
 import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationDelegateLauncher.RuntimeEnv;
 import io.openliberty.tools.eclipse.ui.launch.LaunchConfigurationHelper;
@@ -106,9 +126,284 @@ public class LibertyPluginTychoOnlyUnitTest {
         }
     }
 
+    /**
+     * Tests that repeated dev mode start/stop cycles do not leak debug event listeners. A single dispatcher is registered
+     * while dev mode processes are running, and it is unregistered once they have all terminated.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testDebugEventListenerRegistration() throws Exception {
+
+        DebugPlugin debugPlugin = mock(DebugPlugin.class);
+        DevModeOperations devModeOps = mock(DevModeOperations.class);
+        when(devModeOps.getProjectModel()).thenReturn(mock(WorkspaceProjectsModel.class));
+        List<IDebugEventSetListener> registeredListeners = new ArrayList<IDebugEventSetListener>();
+        doAnswer(invocation -> registeredListeners.add(invocation.getArgument(0))).when(debugPlugin).addDebugEventListener(any());
+        doAnswer(invocation -> registeredListeners.remove(invocation.getArgument(0))).when(debugPlugin).removeDebugEventListener(any());
+
+        try (MockedStatic<DebugPlugin> debugPluginMock = mockStatic(DebugPlugin.class);
+                        MockedStatic<DevModeOperations> devModeOpsMock = mockStatic(DevModeOperations.class)) {
+
+            debugPluginMock.when(DebugPlugin::getDefault).thenReturn(debugPlugin);
+            devModeOpsMock.when(DevModeOperations::getInstance).thenReturn(devModeOps);
+
+            ProcessController processController = ProcessController.getInstance();
+
+            // Sequential start/stop cycles of the same project.
+            for (int i = 0; i < 25; i++) {
+                IProcess iProcess = mock(IProcess.class);
+                processController.registerDebugProcess(iProcess, "app");
+                Assertions.assertEquals(1, registeredListeners.size(), "Expecting one registered listener while dev mode runs");
+
+                dispatchTerminateEvent(registeredListeners, iProcess);
+                Assertions.assertEquals(0, registeredListeners.size(), "Expecting no registered listener after dev mode ended");
+            }
+
+            // Concurrent dev mode processes of several projects.
+            List<IProcess> processes = new ArrayList<IProcess>();
+            for (int i = 0; i < 10; i++) {
+                IProcess iProcess = mock(IProcess.class);
+                processes.add(iProcess);
+                processController.registerDebugProcess(iProcess, "app" + i);
+            }
+            Assertions.assertEquals(1, registeredListeners.size(), "Expecting a single listener for all running processes");
+
+            for (IProcess iProcess : processes) {
+                dispatchTerminateEvent(registeredListeners, iProcess);
+            }
+            Assertions.assertEquals(0, registeredListeners.size(), "Expecting no registered listener after dev mode ended");
+            Assertions.assertEquals(0, LibertyDebugEventListener.getInstance().getProcessCount(), "Expecting no tracked process");
+
+            verify(devModeOps, times(35)).cleanupProcess(any());
+        }
+    }
+
+    /**
+     * Tests that updating the workspace model with only the projects that were opened, closed, added or removed results in the
+     * same model as a complete rebuild of the workspace model.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testIncrementalWorkspaceModelUpdate() throws Exception {
+
+        IProject parent = mockModelIProject("parent", "/ws/parent", false);
+        IProject war1 = mockModelIProject("war1", "/ws/parent/war1", true);
+        IProject war2 = mockModelIProject("war2", "/ws/parent/war2", false);
+        IProject jar = mockModelIProject("jar", "/ws/parent/jar", false);
+        IProject standalone = mockModelIProject("standalone", "/ws/standalone", true);
+        List<IProject> allProjects = List.of(parent, war1, war2, jar, standalone);
+
+        IWorkspace workspace = mock(IWorkspace.class);
+        IWorkspaceRoot workspaceRoot = mock(IWorkspaceRoot.class);
+        when(workspace.getRoot()).thenReturn(workspaceRoot);
+
+        try (MockedStatic<ResourcesPlugin> resourcesPluginMock = mockStatic(ResourcesPlugin.class)) {
+            resourcesPluginMock.when(ResourcesPlugin::getWorkspace).thenReturn(workspace);
+
+            // Test 1. Projects added in several steps (children first, then their parent).
+            when(workspaceRoot.getProjects()).thenReturn(new IProject[] { war2, standalone });
+            WorkspaceProjectsModel projModel = new WorkspaceProjectsModel();
+            projModel.createNewCompleteWorkspaceModelWithClassify();
+            projModel.updateWorkspaceModelWithClassify(List.of(war1, jar));
+            projModel.updateWorkspaceModelWithClassify(List.of(parent));
+
+            when(workspaceRoot.getProjects()).thenReturn(allProjects.toArray(new IProject[allProjects.size()]));
+            Assertions.assertEquals(describeCompleteModel(allProjects), describeModel(projModel, allProjects),
+                                    "The incrementally built model does not match the complete model after the projects were added.");
+            Assertions.assertTrue(projModel.getProject("parent").isParentOfServerModule(), "Expecting parent to be a parent of a server module.");
+
+            // Test 2. The only server module child is closed.
+            when(war1.isOpen()).thenReturn(false);
+            projModel.updateWorkspaceModelWithClassify(List.of(war1));
+            Assertions.assertEquals(describeCompleteModel(allProjects), describeModel(projModel, allProjects),
+                                    "The incrementally built model does not match the complete model after war1 was closed.");
+            Assertions.assertNull(projModel.getProject("war1"), "Expecting war1 to be removed from the model.");
+            Assertions.assertFalse(projModel.getProject("parent").isParentOfServerModule(), "Expecting parent to no longer be a parent of a server module.");
+
+            // Test 3. The server module child is re-opened and the parent is closed.
+            when(war1.isOpen()).thenReturn(true);
+            when(parent.isOpen()).thenReturn(false);
+            projModel.updateWorkspaceModelWithClassify(List.of(war1, parent));
+            Assertions.assertEquals(describeCompleteModel(allProjects), describeModel(projModel, allProjects),
+                                    "The incrementally built model does not match the complete model after parent was closed.");
+            Assertions.assertFalse(projModel.getProject("war1").isAggregated(), "Expecting war1 to no longer have a parent.");
+        }
+    }
+
+    /**
+     * Tests that projects nested more than one directory level below another project are linked to the closest enclosing
+     * project, and that the links are re-established when an intermediate project is added or removed.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testNestedProjectLinking() throws Exception {
+
+        IProject parent = mockModelIProject("parent", "/ws/parent", false);
+        IProject war = mockModelIProject("war", "/ws/parent/modules/web/war", true);
+        IProject jar = mockModelIProject("jar", "/ws/parent/modules/jar", false);
+        IProject modules = mockModelIProject("modules", "/ws/parent/modules", false);
+        IProject sibling = mockModelIProject("parent-sibling", "/ws/parent-sibling", false);
+        List<IProject> allProjects = List.of(parent, war, jar, modules, sibling);
+
+        IWorkspace workspace = mock(IWorkspace.class);
+        IWorkspaceRoot workspaceRoot = mock(IWorkspaceRoot.class);
+        when(workspace.getRoot()).thenReturn(workspaceRoot);
+
+        try (MockedStatic<ResourcesPlugin> resourcesPluginMock = mockStatic(ResourcesPlugin.class)) {
+            resourcesPluginMock.when(ResourcesPlugin::getWorkspace).thenReturn(workspace);
+
+            // Test 1. No intermediate project. The nested projects belong to the top level parent.
+            when(modules.isOpen()).thenReturn(false);
+            when(workspaceRoot.getProjects()).thenReturn(allProjects.toArray(new IProject[allProjects.size()]));
+            WorkspaceProjectsModel projModel = new WorkspaceProjectsModel();
+            projModel.createNewCompleteWorkspaceModelWithClassify();
+            Assertions.assertEquals("parent", projModel.getProject("war").getParentDirProject().getName(),
+                                    "Expecting war to be linked to the closest enclosing project.");
+            Assertions.assertEquals(List.of("jar"), projModel.getProject("war").getPeerJavaProjects().stream().map(Project::getName).collect(Collectors.toList()),
+                                    "Expecting jar to be the only peer of war.");
+            Assertions.assertFalse(projModel.getProject("parent-sibling").isAggregated(), "Expecting parent-sibling to have no parent.");
+            Assertions.assertTrue(projModel.getProject("parent").isParentOfServerModule(), "Expecting parent to be a parent of a server module.");
+
+            // Test 2. An intermediate project is opened. It becomes the parent of the nested projects.
+            when(modules.isOpen()).thenReturn(true);
+            projModel.updateWorkspaceModelWithClassify(List.of(modules));
+            Assertions.assertEquals(describeCompleteModel(allProjects), describeModel(projModel, allProjects),
+                                    "The incrementally built model does not match the complete model after modules was opened.");
+            Assertions.assertEquals("modules", projModel.getProject("war").getParentDirProject().getName(),
+                                    "Expecting war to be linked to the intermediate project.");
+            Assertions.assertEquals("parent", projModel.getProject("modules").getParentDirProject().getName(),
+                                    "Expecting modules to be linked to parent.");
+
+            // Test 3. The intermediate project is closed. The nested projects are linked to the top level parent again.
+            when(modules.isOpen()).thenReturn(false);
+            projModel.updateWorkspaceModelWithClassify(List.of(modules));
+            Assertions.assertEquals(describeCompleteModel(allProjects), describeModel(projModel, allProjects),
+                                    "The incrementally built model does not match the complete model after modules was closed.");
+            Assertions.assertEquals("parent", projModel.getProject("war").getParentDirProject().getName(),
+                                    "Expecting war to be linked to parent again.");
+        }
+    }
+
+    /**
+     * Tests that the default start parameters of a Maven module nested more than one directory level below its parent point to
+     * the parent's pom and to the module path relative to the parent.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testDefaultStartParametersOfNestedModule() throws Exception {
+
+        IProject parent = mockModelIProject("parent", "/ws/parent", false);
+        IProject war = mockModelIProject("war", "/ws/parent/war", true);
+        IProject svc = mockModelIProject("svc", "/ws/parent/modules/svc", true);
+        IProject standalone = mockModelIProject("standalone", "/ws/standalone", true);
+        List<IProject> allProjects = List.of(parent, war, svc, standalone);
+
+        IWorkspace workspace = mock(IWorkspace.class);
+        IWorkspaceRoot workspaceRoot = mock(IWorkspaceRoot.class);
+        when(workspace.getRoot()).thenReturn(workspaceRoot);
+
+        try (MockedStatic<ResourcesPlugin> resourcesPluginMock = mockStatic(ResourcesPlugin.class)) {
+            resourcesPluginMock.when(ResourcesPlugin::getWorkspace).thenReturn(workspace);
+
+            when(workspaceRoot.getProjects()).thenReturn(allProjects.toArray(new IProject[allProjects.size()]));
+            WorkspaceProjectsModel projModel = new WorkspaceProjectsModel();
+            projModel.createNewCompleteWorkspaceModelWithClassify();
+
+            Assertions.assertEquals("-f ../pom.xml -am -pl war", projModel.getDefaultStartParameters(war),
+                                    "Wrong default start parameters for a direct child module.");
+            Assertions.assertEquals("-f ../../pom.xml -am -pl modules/svc", projModel.getDefaultStartParameters(svc),
+                                    "Wrong default start parameters for a module two directory levels below its parent.");
+            Assertions.assertEquals("", projModel.getDefaultStartParameters(standalone),
+                                    "Wrong default start parameters for a standalone project.");
+        }
+    }
+
+    /**
+     * Returns the description of a workspace model built from scratch.
+     * 
+     * @param projects The projects to describe.
+     * 
+     * @return The description of a workspace model built from scratch.
+     */
+    private String describeCompleteModel(List<IProject> projects) {
+        WorkspaceProjectsModel completeModel = new WorkspaceProjectsModel();
+        completeModel.createNewCompleteWorkspaceModelWithClassify();
+        return describeModel(completeModel, projects);
+    }
+
+    /**
+     * Returns a description of the model entries associated with the input projects that does not depend on iteration order.
+     * 
+     * @param projModel The model to describe.
+     * @param projects  The projects to describe.
+     * 
+     * @return A description of the model entries associated with the input projects.
+     */
+    private String describeModel(WorkspaceProjectsModel projModel, List<IProject> projects) {
+        StringBuilder sb = new StringBuilder();
+        for (IProject iProject : projects) {
+            Project project = projModel.getProject(iProject.getName());
+            sb.append(iProject.getName()).append(": ");
+            if (project == null) {
+                sb.append("<none>\n");
+                continue;
+            }
+            sb.append(project.getBuildType()).append(", server module: ").append(project.isLibertyServerModule());
+            sb.append(", parent of server module: ").append(project.isParentOfServerModule());
+            sb.append(", parent: ").append(project.getParentDirProject() == null ? "<none>" : project.getParentDirProject().getName());
+            sb.append(", children: ").append(project.getChildJavaProjects().stream().map(Project::getName).sorted().collect(Collectors.toList()));
+            sb.append(", peers: ").append(project.getPeerJavaProjects().stream().map(Project::getName).sorted().collect(Collectors.toList()));
+            sb.append("\n");
+        }
+        sb.append("dashboard: ").append(projModel.getSortedDashboardProjectList());
+        return sb.toString();
+    }
+
+    /**
+     * Returns a mocked open Maven project that already has the Liberty nature.
+     * 
+     * @param projectName  The project name.
+     * @param location     The project location.
+     * @param serverModule Whether the project contains Liberty server configuration.
+     * 
+     * @return A mocked open Maven project.
+     * 
+     * @throws CoreException
+     */
+    private static IProject mockModelIProject(String projectName, String location, boolean serverModule) throws CoreException {
+        IProject mockProject = mockIProject(projectName);
+        when(mockProject.getLocation()).thenReturn(new Path(location));
+        when(mockProject.isOpen()).thenReturn(true);
+        when(mockProject.hasNature(any())).thenReturn(true);
+
+        IProjectDescription description = mock(IProjectDescription.class);
+        when(description.hasNature(any())).thenReturn(true);
+        when(mockProject.getDescription()).thenReturn(description);
+
+        IFile libertyConfigFile = mock(IFile.class);
+        when(libertyConfigFile.exists()).thenReturn(serverModule);
+        when(mockProject.getFile(any(IPath.class))).thenReturn(libertyConfigFile);
+
+        return mockProject;
+    }
+
     public static IProject mockIProject(String projectName) throws CoreException {
         IProject mockProject = mock(IProject.class);
         when(mockProject.getName()).thenReturn(projectName);
         return mockProject;
     }
+
+    /**
+     * Sends a terminate event for the input process to the registered debug event listeners.
+     */
+    private void dispatchTerminateEvent(List<IDebugEventSetListener> listeners, IProcess iProcess) {
+        DebugEvent[] events = new DebugEvent[] { new DebugEvent(iProcess, DebugEvent.TERMINATE) };
+        for (IDebugEventSetListener listener : new ArrayList<IDebugEventSetListener>(listeners)) {
+            listener.handleDebugEvents(events);
+        }
+    }
 }